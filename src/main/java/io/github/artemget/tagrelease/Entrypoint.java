@@ -32,21 +32,46 @@ import io.github.artemget.tagrelease.bot.Bot;
 import io.github.artemget.tagrelease.bot.BotReg;
 import io.github.artemget.tagrelease.command.CmdBuildTags;
 import io.github.artemget.tagrelease.command.CmdEcho;
+import io.github.artemget.tagrelease.command.CmdDiffStands;
 import io.github.artemget.tagrelease.command.CmdEchoReply;
+import io.github.artemget.tagrelease.command.CmdListAll;
+import io.github.artemget.tagrelease.command.CmdListMetrics;
 import io.github.artemget.tagrelease.command.CmdListServices;
 import io.github.artemget.tagrelease.command.CmdListServicesAll;
+import io.github.artemget.tagrelease.command.CmdListStand;
 import io.github.artemget.tagrelease.command.CmdListStands;
 import io.github.artemget.tagrelease.command.CmdListServicesAllTags;
+import io.github.artemget.tagrelease.domain.Journal;
+import io.github.artemget.tagrelease.domain.JournalFile;
 import io.github.artemget.tagrelease.domain.Services;
 import io.github.artemget.tagrelease.domain.ServicesAll;
+import io.github.artemget.tagrelease.domain.ServicesGl;
+import io.github.artemget.tagrelease.domain.ServicesGql;
+import io.github.artemget.tagrelease.domain.ServicesTar;
 import io.github.artemget.tagrelease.domain.Stands;
 import io.github.artemget.tagrelease.domain.StandsGl;
+import io.github.artemget.tagrelease.domain.Tags;
+import io.github.artemget.tagrelease.domain.TagsGl;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.entry.Shas;
+import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Bucket;
+import io.github.artemget.tagrelease.http.HttpBreaker;
+import io.github.artemget.tagrelease.http.HttpGzip;
+import io.github.artemget.tagrelease.http.Http;
+import io.github.artemget.tagrelease.http.HttpPooled;
+import io.github.artemget.tagrelease.http.HttpRetried;
+import io.github.artemget.tagrelease.http.HttpThrottled;
+import io.github.artemget.tagrelease.http.Wire;
 import io.github.artemget.tagrelease.match.MatchAdmin;
 import io.github.artemget.tagrelease.match.MatchReply;
 import io.github.artemget.teleroute.match.MatchAny;
 import io.github.artemget.teleroute.match.MatchRegex;
 import io.github.artemget.teleroute.route.RouteDfs;
 import io.github.artemget.teleroute.route.RouteFork;
+import java.nio.file.Path;
+import java.time.Duration;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 
 /**
@@ -64,12 +89,87 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 )
 public class Entrypoint {
     public static void main(final String[] args) throws EntryException, TelegramApiException {
+        final String idle = new EVal("provider.pool.idle").value();
+        System.setProperty("jdk.httpclient.connectionPoolSize", new EVal("provider.pool.size").value());
+        System.setProperty("jdk.httpclient.keepalive.timeout", idle);
+        System.setProperty("jdk.httpclient.keepalive.timeout.h2", idle);
         final Entry<String> host = new EVal("provider.host");
         final Entry<String> release = new EVal("provider.release");
         final Entry<String> token = new EVal("provider.token");
         final Entry<String> project = new EVal("provider.project");
-        final Services all = new ServicesAll(host, project, token);
-        final Stands stands = new StandsGl(host, release, token);
+        final Wire wire = new Wire();
+        final Bucket reads = new Bucket(
+            Integer.parseInt(new EVal("provider.limit.read.burst").value()),
+            Double.parseDouble(new EVal("provider.limit.read.rate").value())
+        );
+        final Bucket writes = new Bucket(
+            Integer.parseInt(new EVal("provider.limit.write.burst").value()),
+            Double.parseDouble(new EVal("provider.limit.write.rate").value())
+        );
+        final Http http = new HttpBreaker(
+            new HttpRetried(
+                new HttpThrottled(
+                    new HttpGzip(
+                        new HttpPooled(),
+                        wire
+                    ),
+                    reads,
+                    writes
+                ),
+                Integer.parseInt(new EVal("provider.retry.attempts").value()),
+                Duration.ofMillis(Long.parseLong(new EVal("provider.retry.backoff").value())),
+                Duration.ofMillis(Long.parseLong(new EVal("provider.retry.max").value()))
+            ),
+            Integer.parseInt(new EVal("provider.breaker.failures").value()),
+            Duration.ofSeconds(Long.parseLong(new EVal("provider.breaker.cooldown").value()))
+        );
+        final Etags etags = new Etags();
+        final Flights flights = new Flights();
+        final Services all = new ServicesAll(http, etags, flights, host, project, token);
+        final Journal journal;
+        try {
+            journal = new JournalFile(Path.of(new EVal("provider.journal").value())).replayed();
+        } catch (final DomainException exception) {
+            throw new EntryException("Failed to replay journal of tag creations", exception);
+        }
+        final Tags tags = new TagsGl(http, etags, journal, host, token);
+        final int parallel = Integer.parseInt(new EVal("provider.stand.parallel").value());
+        final Duration deadline = Duration.ofSeconds(
+            Long.parseLong(new EVal("provider.stand.deadline").value())
+        );
+        final int chunk = Integer.parseInt(new EVal("provider.stand.chunk").value());
+        final Shas<String> shas = new Shas<>();
+        final String loader = new EVal("provider.stand.loader").value();
+        final Stands stands = new StandsGl(
+            http,
+            etags,
+            flights,
+            host,
+            release,
+            token,
+            (sha) -> {
+                final Services services;
+                if ("graphql".equals(loader)) {
+                    services = new ServicesGql(
+                        http, etags, flights, host, release, () -> sha, token, chunk
+                    );
+                } else if ("archive".equals(loader)) {
+                    services = new ServicesTar(http, host, release, () -> sha, token);
+                } else {
+                    services = new ServicesGl(
+                        http,
+                        etags,
+                        flights,
+                        shas,
+                        host,
+                        release,
+                        () -> sha,
+                        token
+                    );
+                }
+                return services;
+            }
+        );
         new BotReg(
             new Bot(
                 new EVal("bot.name"),
@@ -93,26 +193,48 @@ public class Entrypoint {
                             new MatchRegex<>("[Пп]окажи сервисы \\{([^{}]*)\\}$"),
                             new CmdListServices(stands)
                         ),
+                        new RouteFork<>(
+                            new MatchRegex<>("[Пп]окажи метрики"),
+                            new CmdListMetrics(wire, etags, flights, reads, writes)
+                        ),
                         new RouteFork<>(
                             new MatchRegex<>("[Пп]окажи стенды"),
                             new CmdListStands(stands)
                         ),
+                        new RouteFork<>(
+                            new MatchRegex<>("[Пп]окажи стенд \\{([^{}]*)\\}$"),
+                            new CmdListStand(stands, parallel, deadline)
+                        ),
+                        new RouteFork<>(
+                            new MatchRegex<>("[Сс]равни стенды \\{([^{}]*)\\}\\s+и\\s+\\{([^{}]*)\\}$"),
+                            new CmdDiffStands(stands, parallel, deadline)
+                        ),
+                        new RouteFork<>(
+                            new MatchRegex<>("[Пп]окажи вс[её]"),
+                            new CmdListAll(
+                                stands,
+                                Integer.parseInt(new EVal("provider.overview.parallel").value()),
+                                Duration.ofSeconds(
+                                    Long.parseLong(new EVal("provider.overview.deadline").value())
+                                )
+                            )
+                        ),
                         new RouteFork<>(
                             new MatchRegex<>("[Пп]окажи тег \\{([^{}]*)\\}\\s+префикс\\s+\\{([^{}]*)\\}$"),
-                            new CmdListServicesAllTags(host, project, token)
+                            new CmdListServicesAllTags(all, tags)
                         ),
                         new RouteFork<>(
                             new MatchAny<>(
                                 new MatchRegex<>("[Сс]обери тег \\{([^{}]*)\\}\\s+префикс\\s+\\{([^{}]*)\\}$"),
                                 new MatchRegex<>("[Сс]обери тег \\{([^{}]*)\\}\\s+префикс\\s+\\{([^{}]*)\\}\\s+ветка\\s+\\{([^{}]*)\\}$")
                             ),
-                            new CmdBuildTags(host, project, token)
+                            new CmdBuildTags(
+                                all,
+                                tags,
+                                Integer.parseInt(new EVal("provider.build.parallel").value())
+                            )
                         )
 //                        new RouteFork<>(
-//                            new MatchRegex<>("Покажи стенд"),
-//                            new CmdListStand(new StandsGitlab())
-//                        ),
-//                        new RouteFork<>(
 //                            new MatchRegex<>("Собери тэги по стенду"),
 //                            new RouteEnd<>(),
 //                            new RouteFork<>(
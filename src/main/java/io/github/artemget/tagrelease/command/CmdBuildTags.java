@@ -36,12 +36,19 @@ import io.github.artemget.tagrelease.domain.TagEa;
 import io.github.artemget.tagrelease.domain.Tags;
 import io.github.artemget.tagrelease.domain.TagsGl;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
 import io.github.artemget.teleroute.command.Cmd;
 import io.github.artemget.teleroute.command.CmdException;
 import io.github.artemget.teleroute.send.Send;
 import io.github.artemget.teleroute.telegrambots.send.SendMessageWrap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,18 +60,32 @@ public class CmdBuildTags implements Cmd<Update, AbsSender> {
     private final Logger log = LoggerFactory.getLogger(CmdBuildTags.class);
     private final Services services;
     private final Tags tags;
+    private final int parallel;
 
     public CmdBuildTags(
+        final Http http,
         final Entry<String> host,
         final Entry<String> project,
         final Entry<String> token
     ) {
-        this(new ServicesAll(host, project, token), new TagsGl(host, token));
+        this(new ServicesAll(http, host, project, token), new TagsGl(http, host, token));
     }
 
     public CmdBuildTags(final Services services, final Tags tags) {
+        this(services, tags, 4);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param services Services
+     * @param tags Tags
+     * @param parallel Max count of services built at once
+     */
+    public CmdBuildTags(final Services services, final Tags tags, final int parallel) {
         this.services = services;
         this.tags = tags;
+        this.parallel = parallel;
     }
 
     @Override
@@ -83,37 +104,103 @@ public class CmdBuildTags implements Cmd<Update, AbsSender> {
         } else {
             branch = "develop";
         }
+        final Services.Resolved resolved;
+        try {
+            resolved = this.services.resolved(names);
+        } catch (final DomainException exception) {
+            throw new CmdException("Failed to fetch services for tag fetch", exception);
+        }
+        for (final String name : resolved.missed()) {
+            log.error("Failed to fetch service:'{}' for tag build", name);
+        }
         final List<Tag> succeed = new ArrayList<>();
-        final List<String> failed = new ArrayList<>();
-        for (final String name : names) {
-            Service service;
-            try {
-                service = this.services.service(name);
-            } catch (final DomainException exception) {
-                log.error("Failed to fetch service:'{}' for tag build", name, exception);
-                failed.add(name);
-                continue;
+        final List<String> failed = new ArrayList<>(resolved.missed());
+        final StringBuilder timings = new StringBuilder();
+        for (final Built built : this.built(resolved.found(), branch, prefix)) {
+            if (built.tag() == null) {
+                failed.add(built.service());
+            } else {
+                succeed.add(built.tag());
             }
-            final Tag tag;
-            try {
-                tag = this.tags.buildNew(service.id(), branch, prefix);
-            } catch (final DomainException exception) {
-                log.error("Failed to build tag for service:'{}'", name, exception);
-                failed.add(name);
-                continue;
-            }
-            succeed.add(new TagEa(service.name(), tag.name(), tag.branch(), tag.fromCommit(), tag.message(), tag.created()));
+            timings.append(String.format("%s: %d мс\n", built.service(), built.millis()));
         }
         final SendMessage message = new SendMessage(
             update.getMessage().getChatId().toString(),
             String.format("Собраны сервисы:\n%s", new Tag.Printed(succeed).asString())
                 .concat(CmdBuildTags.checked(failed))
+                .concat(String.format("\nВремя сборки:\n```\n%s```", timings))
         );
         message.setReplyToMessageId(update.getMessage().getMessageId());
         message.enableMarkdownV2(true);
         return new SendMessageWrap<>(message);
     }
 
+    /**
+     * Builds tags of services at virtual threads, up to parallel at once.
+     * Failure of service does not affect others.
+     *
+     * @param found Services
+     * @param branch Branch
+     * @param prefix Tag prefix
+     * @return Results in order of services
+     */
+    private List<Built> built(final List<Service> found, final String branch, final String prefix) {
+        final List<Built> built = new ArrayList<>(found.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Semaphore permits = new Semaphore(this.parallel);
+            final List<Future<Built>> pending = new ArrayList<>(found.size());
+            for (final Service service : found) {
+                pending.add(executor.submit(() -> this.built(service, branch, prefix, permits)));
+            }
+            for (int index = 0; index < found.size(); ++index) {
+                try {
+                    built.add(pending.get(index).get());
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    log.error("Interrupted tag build for service:'{}'", found.get(index).name());
+                    built.add(new Built(found.get(index).name(), null, 0));
+                } catch (final ExecutionException exception) {
+                    log.error(
+                        "Failed to build tag for service:'{}'",
+                        found.get(index).name(),
+                        exception.getCause()
+                    );
+                    built.add(new Built(found.get(index).name(), null, 0));
+                }
+            }
+        }
+        return built;
+    }
+
+    // @checkstyle IllegalCatchCheck (30 lines)
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Built built(
+        final Service service,
+        final String branch,
+        final String prefix,
+        final Semaphore permits
+    ) throws InterruptedException {
+        permits.acquire();
+        final long start = System.nanoTime();
+        try {
+            final Tag tag = this.tags.buildNew(service.id(), branch, prefix);
+            return new Built(
+                service.name(),
+                new TagEa(service.name(), tag.name(), tag.branch(), tag.fromCommit(), tag.message(), tag.created()),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            );
+        } catch (final DomainException | RuntimeException exception) {
+            log.error("Failed to build tag for service:'{}'", service.name(), exception);
+            return new Built(
+                service.name(),
+                null,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            );
+        } finally {
+            permits.release();
+        }
+    }
+
     private static String checked(List<String> failed) {
         final String message;
         if (failed.isEmpty()) {
@@ -126,4 +213,15 @@ public class CmdBuildTags implements Cmd<Update, AbsSender> {
         }
         return message;
     }
+
+    /**
+     * Result of tag build.
+     *
+     * @param service Service name
+     * @param tag Built tag, null at failure
+     * @param millis Time of build
+     * @since 0.1.0
+     */
+    private record Built(String service, Tag tag, long millis) {
+    }
 }
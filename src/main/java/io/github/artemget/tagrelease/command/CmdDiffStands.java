@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.command;
+
+import io.github.artemget.tagrelease.domain.Stand;
+import io.github.artemget.tagrelease.domain.Stands;
+import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.teleroute.command.Cmd;
+import io.github.artemget.teleroute.command.CmdException;
+import io.github.artemget.teleroute.send.Send;
+import io.github.artemget.teleroute.telegrambots.send.SendMessageWrap;
+import java.time.Duration;
+import org.apache.commons.lang3.StringUtils;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+
+/**
+ * Shows difference of service tags between two stands.
+ *
+ * @since 0.1.0
+ */
+public final class CmdDiffStands implements Cmd<Update, AbsSender> {
+    /**
+     * Available stands.
+     */
+    private final Stands stands;
+
+    /**
+     * Max count of tags fetched at once.
+     */
+    private final int parallel;
+
+    /**
+     * Time to fetch tags of stand.
+     */
+    private final Duration deadline;
+
+    /**
+     * Ctor.
+     * Fetches up to 8 tags at once, for 30 seconds at most.
+     * @param stands Available stands.
+     */
+    public CmdDiffStands(final Stands stands) {
+        this(stands, 8, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Main ctor.
+     * @param stands Available stands.
+     * @param parallel Max count of tags fetched at once
+     * @param deadline Time to fetch tags of stand
+     */
+    public CmdDiffStands(final Stands stands, final int parallel, final Duration deadline) {
+        this.stands = stands;
+        this.parallel = parallel;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public Send<AbsSender> execute(final Update update) throws CmdException {
+        final String request = update.getMessage().getText();
+        final String[] names = StringUtils.substringsBetween(request, "{", "}");
+        if (names == null || names.length < 2) {
+            throw new CmdException(
+                String.format("Failed to get stand names from cmd:'%s'", request)
+            );
+        }
+        final String diff;
+        try {
+            final Stand from = this.stands.stand(names[0].trim());
+            final Stand to = this.stands.stand(names[1].trim());
+            diff = new Stand.Diff(from, to, this.parallel, this.deadline).asString();
+        } catch (final DomainException exception) {
+            throw new CmdException(
+                String.format(
+                    "Failed compare stands:'%s' and '%s' from cmd:'%s'. From user:'%s', userId:'%s' in chat:'%s'",
+                    names[0],
+                    names[1],
+                    request,
+                    update.getMessage().getFrom().getUserName(),
+                    update.getMessage().getFrom().getId(),
+                    update.getMessage().getChatId()
+                ),
+                exception
+            );
+        }
+        final SendMessage message = new SendMessage(
+            update.getMessage().getChatId().toString(),
+            String.format("```\n%s```", diff)
+        );
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+        message.enableMarkdownV2(true);
+        return new SendMessageWrap<>(message);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.command;
+
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.http.Bucket;
+import io.github.artemget.tagrelease.http.Wire;
+import io.github.artemget.teleroute.command.Cmd;
+import io.github.artemget.teleroute.send.Send;
+import io.github.artemget.teleroute.telegrambots.send.SendMessageWrap;
+import java.util.TreeSet;
+import org.cactoos.Text;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+
+/**
+ * Lists counters of requests to gitlab since start.
+ * Format:
+ *  %s: %d / %d байт    endpoint: received / decompressed bytes
+ *  %d / %d             responses not modified / fetched in full
+ *  %d / %d             requests sent / joined to one in flight
+ *  %s: %d / %d / %d мс  bucket: requests queued / passed / total wait
+ * @since 0.1.0
+ */
+public final class CmdListMetrics implements Cmd<Update, AbsSender> {
+    /**
+     * Bytes of response bodies by endpoint.
+     */
+    private final Wire wire;
+
+    /**
+     * Cached responses.
+     */
+    private final Etags etags;
+
+    /**
+     * Requests in flight.
+     */
+    private final Flights flights;
+
+    /**
+     * Limit of reading requests.
+     */
+    private final Bucket reads;
+
+    /**
+     * Limit of writing requests.
+     */
+    private final Bucket writes;
+
+    /**
+     * Main ctor.
+     * @param wire Bytes of response bodies by endpoint
+     * @param etags Cached responses
+     * @param flights Requests in flight
+     * @param reads Limit of reading requests
+     * @param writes Limit of writing requests
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CmdListMetrics(
+        final Wire wire,
+        final Etags etags,
+        final Flights flights,
+        final Bucket reads,
+        final Bucket writes
+    ) {
+        this.wire = wire;
+        this.etags = etags;
+        this.flights = flights;
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    @Override
+    public Send<AbsSender> execute(final Update update) {
+        final SendMessage message = new SendMessage(
+            update.getMessage().getChatId().toString(),
+            new CmdListMetrics.Printed(
+                this.wire, this.etags, this.flights, this.reads, this.writes
+            ).asString()
+        );
+        message.setReplyToMessageId(update.getMessage().getMessageId());
+        message.enableMarkdownV2(true);
+        return new SendMessageWrap<>(message);
+    }
+
+    /**
+     * Printed counters of requests.
+     *
+     * @since 0.1.0
+     */
+    static final class Printed implements Text {
+        /**
+         * Bytes of response bodies by endpoint.
+         */
+        private final Wire wire;
+
+        /**
+         * Cached responses.
+         */
+        private final Etags etags;
+
+        /**
+         * Requests in flight.
+         */
+        private final Flights flights;
+
+        /**
+         * Limit of reading requests.
+         */
+        private final Bucket reads;
+
+        /**
+         * Limit of writing requests.
+         */
+        private final Bucket writes;
+
+        /**
+         * Main ctor.
+         * @param wire Bytes of response bodies by endpoint
+         * @param etags Cached responses
+         * @param flights Requests in flight
+         * @param reads Limit of reading requests
+         * @param writes Limit of writing requests
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Printed(
+            final Wire wire,
+            final Etags etags,
+            final Flights flights,
+            final Bucket reads,
+            final Bucket writes
+        ) {
+            this.wire = wire;
+            this.etags = etags;
+            this.flights = flights;
+            this.reads = reads;
+            this.writes = writes;
+        }
+
+        @Override
+        public String asString() {
+            final StringBuilder traffic = new StringBuilder();
+            for (final String endpoint : new TreeSet<>(this.wire.endpoints())) {
+                traffic.append(
+                    String.format(
+                        "%s: %d / %d байт\n",
+                        endpoint,
+                        this.wire.compressed(endpoint),
+                        this.wire.uncompressed(endpoint)
+                    )
+                );
+            }
+            return String.format(
+                "Трафик:\n```\n%s```\nКэш ответов, не изменились / получены заново:\n```\n%d / %d\n```\nЗапросы, отправлены / присоединены к выполняемым:\n```\n%d / %d\n```\nОчередь лимита, ждут / пропущены / ожидание:\n```\n%s%s```",
+                traffic,
+                this.etags.hits(),
+                this.etags.misses(),
+                this.flights.leads(),
+                this.flights.joins(),
+                CmdListMetrics.Printed.printed("чтение", this.reads),
+                CmdListMetrics.Printed.printed("запись", this.writes)
+            );
+        }
+
+        private static String printed(final String name, final Bucket bucket) {
+            return String.format(
+                "%s: %d / %d / %d мс\n",
+                name,
+                bucket.queued(),
+                bucket.acquired(),
+                bucket.waited().toMillis()
+            );
+        }
+    }
+}
@@ -29,6 +29,7 @@ import io.github.artemget.tagrelease.domain.Service;
 import io.github.artemget.tagrelease.domain.Services;
 import io.github.artemget.tagrelease.domain.ServicesAll;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
 import io.github.artemget.teleroute.command.Cmd;
 import io.github.artemget.teleroute.command.CmdException;
 import io.github.artemget.teleroute.send.Send;
@@ -49,11 +50,12 @@ public final class CmdListServicesAll implements Cmd<Update, AbsSender> {
     private final Services services;
 
     public CmdListServicesAll(
+        final Http http,
         final Entry<String> host,
         final Entry<String> project,
         final Entry<String> token
     ) {
-        this(new ServicesAll(host, project, token));
+        this(new ServicesAll(http, host, project, token));
     }
 
     public CmdListServicesAll(final Services services) {
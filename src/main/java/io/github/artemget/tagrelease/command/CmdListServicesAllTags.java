@@ -12,6 +12,7 @@ import io.github.artemget.tagrelease.domain.TagEa;
 import io.github.artemget.tagrelease.domain.Tags;
 import io.github.artemget.tagrelease.domain.TagsGl;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
 import io.github.artemget.teleroute.command.Cmd;
 import io.github.artemget.teleroute.command.CmdException;
 import io.github.artemget.teleroute.send.Send;
@@ -31,11 +32,12 @@ public class CmdListServicesAllTags implements Cmd<Update, AbsSender> {
     private final Tags tags;
 
     public CmdListServicesAllTags(
+        final Http http,
         final Entry<String> host,
         final Entry<String> project,
         final Entry<String> token
     ) {
-        this(new ServicesAll(host, project, token), new TagsGl(host, token));
+        this(new ServicesAll(http, host, project, token), new TagsGl(http, host, token));
     }
 
     public CmdListServicesAllTags(final Services services, final Tags tags) {
@@ -59,17 +61,19 @@ public class CmdListServicesAllTags implements Cmd<Update, AbsSender> {
         } else {
             branch = "develop";
         }
+        final Services.Resolved resolved;
+        try {
+            resolved = this.services.resolved(names);
+        } catch (final DomainException exception) {
+            throw new CmdException("Failed to fetch services for tag fetch", exception);
+        }
+        for (final String name : resolved.missed()) {
+            log.error("Failed to fetch service:'{}' for tag build", name);
+        }
         final List<Tag> succeed = new ArrayList<>();
-        final List<String> failed = new ArrayList<>();
-        for (final String name : names) {
-            Service service;
-            try {
-                service = this.services.service(name);
-            } catch (final DomainException exception) {
-                log.error("Failed to fetch service:'{}' for tag build", name, exception);
-                failed.add(name);
-                continue;
-            }
+        final List<String> failed = new ArrayList<>(resolved.missed());
+        for (final Service service : resolved.found()) {
+            final String name = service.name();
             final Tag tag;
             try {
                 tag = this.tags.current(service.id(), branch, prefix);
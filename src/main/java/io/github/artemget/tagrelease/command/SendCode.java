@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.artemget.tagrelease.command;
+
+import io.github.artemget.teleroute.send.Send;
+import io.github.artemget.teleroute.send.SendException;
+import io.github.artemget.teleroute.telegrambots.send.SendMessageWrap;
+import java.util.ArrayList;
+import java.util.List;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.bots.AbsSender;
+
+/**
+ * Sends text as code blocks in reply to request.
+ * Text longer than message limit of telegram is split by lines into several
+ * messages, line longer than limit is split itself. First message is reply.
+ *
+ * @since 0.1.0
+ */
+public final class SendCode implements Send<AbsSender> {
+    /**
+     * Max length of telegram message.
+     */
+    private static final int LIMIT = 4096;
+
+    /**
+     * Length of code block markup.
+     */
+    private static final int MARKUP = "```\n```".length();
+
+    /**
+     * Request.
+     */
+    private final Update update;
+
+    /**
+     * Text.
+     */
+    private final String text;
+
+    /**
+     * Max length of message.
+     */
+    private final int limit;
+
+    /**
+     * Ctor.
+     * @param update Request
+     * @param text Text
+     */
+    public SendCode(final Update update, final String text) {
+        this(update, text, SendCode.LIMIT);
+    }
+
+    /**
+     * Main ctor.
+     * @param update Request
+     * @param text Text
+     * @param limit Max length of message
+     */
+    public SendCode(final Update update, final String text, final int limit) {
+        this.update = update;
+        this.text = text;
+        this.limit = limit;
+    }
+
+    @Override
+    public void send(final AbsSender sender) throws SendException {
+        boolean first = true;
+        for (final String chunk : SendCode.chunks(this.text, this.limit - SendCode.MARKUP)) {
+            final SendMessage message = new SendMessage(
+                this.update.getMessage().getChatId().toString(),
+                String.format("```\n%s```", chunk)
+            );
+            if (first) {
+                message.setReplyToMessageId(this.update.getMessage().getMessageId());
+                first = false;
+            }
+            message.enableMarkdownV2(true);
+            new SendMessageWrap<>(message).send(sender);
+        }
+    }
+
+    /**
+     * Text split by lines into chunks.
+     * @param text Text
+     * @param size Max length of chunk
+     * @return Chunks
+     */
+    static List<String> chunks(final String text, final int size) {
+        final List<String> chunks = new ArrayList<>(text.length() / size + 1);
+        final StringBuilder chunk = new StringBuilder(Math.min(text.length(), size));
+        for (final String line : text.split("(?<=\n)")) {
+            if (chunk.length() + line.length() > size && chunk.length() > 0) {
+                chunks.add(chunk.toString());
+                chunk.setLength(0);
+            }
+            int start = 0;
+            while (line.length() - start > size) {
+                chunks.add(line.substring(start, start + size));
+                start += size;
+            }
+            chunk.append(line, start, line.length());
+        }
+        if (chunk.length() > 0 || chunks.isEmpty()) {
+            chunks.add(chunk.toString());
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.entry.EFetchRecsAt;
+import io.github.artemget.tagrelease.entry.EFunc;
+import io.github.artemget.tagrelease.entry.Projection;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Titles of merge requests merged to branch after tag, newest first.
+ * Compares tag with branch by one request and takes titles from merge commits.
+ * Commit is covered by merge commit, when it is reachable from merged parent,
+ * but not from target branch parent. Falls back to other changelog, when some
+ * commit is not covered by any merge commit, like squash or fast forward merge.
+ *
+ * @since 0.1.0
+ */
+public final class ChangelogGl implements EFunc<Tag, String> {
+    /**
+     * Commit fields used by changelog.
+     */
+    private static final Projection<CommitGl> COMMIT = new Projection<>(
+        values -> new CommitGl(
+            values.get(0),
+            values.get(1),
+            values.get(2),
+            ChangelogGl.parents(values.get(3))
+        ),
+        "id", "title", "message", "parent_ids"
+    );
+
+    /**
+     * Marks merge commit of merge request.
+     */
+    private static final String MERGED = "See merge request ";
+
+    /**
+     * Max length of printed title.
+     */
+    private static final int LENGTH = 30;
+
+    /**
+     * Commits of branch after tag, oldest first.
+     */
+    private final EFunc<Tag, List<CommitGl>> compared;
+
+    /**
+     * Changelog used without merge commits.
+     */
+    private final EFunc<Tag, String> fallback;
+
+    /**
+     * Ctor.
+     *
+     * @param http Transport
+     * @param url Gitlab url
+     * @param token Gitlab token
+     * @param fallback Changelog used without merge commits
+     */
+    public ChangelogGl(
+        final Http http,
+        final Entry<String> url,
+        final Entry<String> token,
+        final EFunc<Tag, String> fallback
+    ) {
+        this(
+            (tag) -> new EFetchRecsAt<>(
+                http,
+                HttpRequest.newBuilder(
+                    URI.create(
+                        String.format(
+                            "%s/api/v4/projects/%s/repository/compare?from=%s&to=%s",
+                            url.value(),
+                            tag.repo(),
+                            URLEncoder.encode(tag.name(), StandardCharsets.UTF_8),
+                            URLEncoder.encode(tag.branch(), StandardCharsets.UTF_8)
+                        )
+                    )
+                ).GET()
+                    .header("Accept", "application/json")
+                    .header("PRIVATE-TOKEN", token.value())
+                    .build(),
+                "commits",
+                ChangelogGl.COMMIT
+            ).value(),
+            fallback
+        );
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param compared Commits of branch after tag, oldest first
+     * @param fallback Changelog used without merge commits
+     */
+    public ChangelogGl(
+        final EFunc<Tag, List<CommitGl>> compared,
+        final EFunc<Tag, String> fallback
+    ) {
+        this.compared = compared;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public String apply(final Tag tag) throws EntryException {
+        final List<CommitGl> commits = this.compared.apply(tag);
+        final Map<String, CommitGl> compared = new HashMap<>(commits.size() * 2);
+        for (final CommitGl commit : commits) {
+            compared.put(commit.id(), commit);
+        }
+        final Set<String> covered = new HashSet<>(commits.size() * 2);
+        final StringBuilder changelog = new StringBuilder();
+        for (int index = commits.size() - 1; index >= 0; --index) {
+            final CommitGl commit = commits.get(index);
+            if (ChangelogGl.merge(commit)) {
+                changelog.append(ChangelogGl.trimmed(ChangelogGl.title(commit))).append('\n');
+                covered.add(commit.id());
+                final Set<String> target = ChangelogGl.reachable(
+                    compared, commit.parents().subList(0, 1), Set.of()
+                );
+                covered.addAll(
+                    ChangelogGl.reachable(
+                        compared, commit.parents().subList(1, commit.parents().size()), target
+                    )
+                );
+            }
+        }
+        final String result;
+        if (covered.size() < commits.size()) {
+            result = this.fallback.apply(tag);
+        } else {
+            result = changelog.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Whether commit merges merge request.
+     *
+     * @param commit Commit
+     * @return True if merge commit of merge request
+     */
+    private static boolean merge(final CommitGl commit) {
+        return commit.parents().size() > 1
+            && commit.message() != null
+            && commit.message().contains(ChangelogGl.MERGED);
+    }
+
+    /**
+     * Compared commits reachable from given ones.
+     *
+     * @param compared Compared commits by id
+     * @param starts Ids of commits to start from
+     * @param excluded Ids of commits not to walk through
+     * @return Ids of reachable commits
+     */
+    private static Set<String> reachable(
+        final Map<String, CommitGl> compared,
+        final List<String> starts,
+        final Set<String> excluded
+    ) {
+        final Set<String> reached = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>(starts);
+        while (!pending.isEmpty()) {
+            final String id = pending.pop();
+            final CommitGl commit = compared.get(id);
+            if (commit != null && !excluded.contains(id) && reached.add(id)) {
+                pending.addAll(commit.parents());
+            }
+        }
+        return reached;
+    }
+
+    private static List<String> parents(final String ids) {
+        final List<String> parents;
+        if (ids == null || ids.isEmpty()) {
+            parents = List.of();
+        } else {
+            parents = List.of(ids.split(" "));
+        }
+        return parents;
+    }
+
+    /**
+     * Title of merge request from merge commit message.
+     * Gitlab puts it after first line of message,
+     * before line with merge request reference.
+     *
+     * @param commit Merge commit
+     * @return Title
+     */
+    private static String title(final CommitGl commit) {
+        final String[] lines = commit.message().split("\\R");
+        String title = commit.title();
+        for (int index = 1; index < lines.length; ++index) {
+            final String line = lines[index].trim();
+            if (line.startsWith(ChangelogGl.MERGED)) {
+                break;
+            }
+            if (!line.isEmpty()) {
+                title = line;
+                break;
+            }
+        }
+        return title;
+    }
+
+    private static String trimmed(final String title) {
+        final String trimmed;
+        if (title.length() >= ChangelogGl.LENGTH) {
+            trimmed = title.substring(0, ChangelogGl.LENGTH).concat("...");
+        } else {
+            trimmed = title;
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Journal of tag creations.
+ * Tag creation is recorded as intent before request to create tag,
+ * and as outcome after tag is created.
+ *
+ * @since 0.1.0
+ */
+public interface Journal {
+    /**
+     * Latest intent of tag creation for project and prefix, without outcome.
+     *
+     * @param project Project id
+     * @param prefix Tag prefix
+     * @return Intent
+     */
+    Optional<Intent> pending(String project, String prefix);
+
+    /**
+     * Records intent of tag creation.
+     *
+     * @param key Project, prefix and base tag
+     * @param next Name of created tag
+     * @throws DomainException If failed to record
+     */
+    void intended(Key key, String next) throws DomainException;
+
+    /**
+     * Records outcome of tag creation.
+     *
+     * @param key Project, prefix and base tag
+     * @param created Created tag
+     * @throws DomainException If failed to record
+     */
+    void completed(Key key, TagRefGl created) throws DomainException;
+
+    /**
+     * Tag creation key.
+     *
+     * @param project Project id
+     * @param prefix Tag prefix
+     * @param base Tag, next tag is built from
+     * @since 0.1.0
+     */
+    record Key(String project, String prefix, String base) {
+    }
+
+    /**
+     * Tag creation.
+     *
+     * @param key Project, prefix and base tag
+     * @param next Name of created tag
+     * @param created Created tag, null without outcome
+     * @since 0.1.0
+     */
+    record Intent(Key key, String next, TagRefGl created) {
+    }
+
+    /**
+     * Journal kept in memory.
+     *
+     * @since 0.1.0
+     */
+    final class Fake implements Journal {
+        /**
+         * Latest intents by project and prefix.
+         */
+        private final Map<List<String>, Intent> intents;
+
+        /**
+         * Main ctor.
+         */
+        public Fake() {
+            this.intents = new HashMap<>();
+        }
+
+        @Override
+        public synchronized Optional<Intent> pending(final String project, final String prefix) {
+            return Optional.ofNullable(this.intents.get(List.of(project, prefix)))
+                .filter(intent -> intent.created() == null);
+        }
+
+        @Override
+        public synchronized void intended(final Key key, final String next) {
+            this.intents.put(List.of(key.project(), key.prefix()), new Intent(key, next, null));
+        }
+
+        @Override
+        public synchronized void completed(final Key key, final TagRefGl created) {
+            this.intents.put(List.of(key.project(), key.prefix()), new Intent(key, created.name(), created));
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Journal of tag creations, appended to file.
+ * Each record is line of url encoded fields, separated by tabs:
+ *  intent  project prefix base next
+ *  outcome project prefix base name commit created
+ * Records of concurrent callers are written and synced to disk by one of them
+ * at once, each caller returns after batch with it's record is synced. Journal
+ * is replayed from file once, line cut by crash is dropped. At replay file is
+ * rewritten with intents without outcome only, so it does not grow between
+ * restarts.
+ *
+ * @since 0.1.0
+ */
+public final class JournalFile implements Journal, AutoCloseable {
+    /**
+     * Journal file.
+     */
+    private final Path path;
+
+    /**
+     * Guards state of journal.
+     */
+    private final Lock lock;
+
+    /**
+     * Signals synced records.
+     */
+    private final Condition synced;
+
+    /**
+     * Latest intents by project and prefix.
+     */
+    private final Map<List<String>, Intent> intents;
+
+    /**
+     * Journal file opened for append, null before replay.
+     */
+    private FileChannel channel;
+
+    /**
+     * Records waiting to be written.
+     */
+    private Batch queued;
+
+    /**
+     * Records are being written.
+     */
+    private boolean writing;
+
+    /**
+     * Main ctor.
+     *
+     * @param path Journal file
+     */
+    public JournalFile(final Path path) {
+        this.path = path;
+        this.lock = new ReentrantLock();
+        this.synced = this.lock.newCondition();
+        this.intents = new HashMap<>();
+        this.queued = new Batch();
+    }
+
+    /**
+     * Replays journal file, if it was not replayed yet.
+     *
+     * @return This journal
+     * @throws DomainException If failed to read or open journal file
+     */
+    public JournalFile replayed() throws DomainException {
+        this.lock.lock();
+        try {
+            if (this.channel == null) {
+                this.channel = this.opened();
+            }
+            return this;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Intent> pending(final String project, final String prefix) {
+        this.lock.lock();
+        try {
+            return Optional.ofNullable(this.intents.get(List.of(project, prefix)))
+                .filter(intent -> intent.created() == null);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void intended(final Key key, final String next) throws DomainException {
+        this.appended(
+            new Intent(key, next, null),
+            JournalFile.line("intent", key.project(), key.prefix(), key.base(), next)
+        );
+    }
+
+    @Override
+    public void completed(final Key key, final TagRefGl created) throws DomainException {
+        this.appended(
+            new Intent(key, created.name(), created),
+            JournalFile.line(
+                "outcome",
+                key.project(),
+                key.prefix(),
+                key.base(),
+                created.name(),
+                created.commit(),
+                created.created()
+            )
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            if (this.channel != null) {
+                this.channel.close();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void appended(final Intent intent, final String line) throws DomainException {
+        this.replayed();
+        this.lock.lock();
+        try {
+            final Batch batch = this.queued;
+            batch.lines().add(line);
+            while (!batch.done()) {
+                if (this.writing) {
+                    this.synced.awaitUninterruptibly();
+                } else {
+                    this.written();
+                }
+            }
+            if (!batch.synced()) {
+                throw new DomainException(
+                    String.format("Failed to write tag creation to journal:%s", this.path)
+                );
+            }
+            this.intents.put(JournalFile.lane(intent.key()), intent);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes and syncs queued records. Lock is released while writing,
+     * so next records are queued for next batch.
+     */
+    private void written() {
+        this.writing = true;
+        final Batch batch = this.queued;
+        this.queued = new Batch();
+        this.lock.unlock();
+        boolean success = false;
+        long position = -1;
+        try {
+            position = this.channel.position();
+            final ByteBuffer buffer = ByteBuffer.wrap(
+                String.join("", batch.lines()).getBytes(StandardCharsets.UTF_8)
+            );
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+            this.channel.force(false);
+            success = true;
+        } catch (final IOException ignored) {
+            JournalFile.truncated(this.channel, position);
+        } finally {
+            this.lock.lock();
+            batch.finished(success);
+            this.writing = false;
+            this.synced.signalAll();
+        }
+    }
+
+    /**
+     * Drops part of failed batch, so next records are not glued to it.
+     *
+     * @param channel Journal file
+     * @param position Size of file before batch, -1 if unknown
+     */
+    private static void truncated(final FileChannel channel, final long position) {
+        if (position >= 0) {
+            try {
+                channel.truncate(position);
+                channel.position(position);
+            } catch (final IOException ignored) {
+                // batch is reported as failed to callers anyway
+            }
+        }
+    }
+
+    private FileChannel opened() throws DomainException {
+        try {
+            if (Files.exists(this.path)) {
+                try (InputStream input = new BufferedInputStream(Files.newInputStream(this.path))) {
+                    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+                    int next = input.read();
+                    while (next >= 0) {
+                        if (next == '\n') {
+                            this.replayed(line.toString(StandardCharsets.UTF_8));
+                            line.reset();
+                        } else {
+                            line.write(next);
+                        }
+                        next = input.read();
+                    }
+                }
+            }
+            this.intents.values().removeIf(intent -> intent.created() != null);
+            final Path compacted = this.path.resolveSibling(
+                this.path.getFileName().toString().concat(".tmp")
+            );
+            try (FileChannel temp = FileChannel.open(
+                compacted,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )) {
+                final StringBuilder pending = new StringBuilder();
+                for (final Intent intent : this.intents.values()) {
+                    pending.append(
+                        JournalFile.line(
+                            "intent",
+                            intent.key().project(),
+                            intent.key().prefix(),
+                            intent.key().base(),
+                            intent.next()
+                        )
+                    );
+                }
+                final ByteBuffer buffer = ByteBuffer.wrap(
+                    pending.toString().getBytes(StandardCharsets.UTF_8)
+                );
+                while (buffer.hasRemaining()) {
+                    temp.write(buffer);
+                }
+                temp.force(false);
+            }
+            Files.move(
+                compacted,
+                this.path,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+            return FileChannel.open(this.path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (final IOException exception) {
+            throw new DomainException(
+                String.format("Failed to replay journal:%s", this.path),
+                exception
+            );
+        }
+    }
+
+    private void replayed(final String line) {
+        final String[] fields = line.split("\t");
+        for (int index = 0; index < fields.length; ++index) {
+            fields[index] = URLDecoder.decode(fields[index], StandardCharsets.UTF_8);
+        }
+        if ("intent".equals(fields[0]) && fields.length == 5) {
+            final Key key = new Key(fields[1], fields[2], fields[3]);
+            this.intents.put(JournalFile.lane(key), new Intent(key, fields[4], null));
+        } else if ("outcome".equals(fields[0]) && fields.length == 7) {
+            final Key key = new Key(fields[1], fields[2], fields[3]);
+            this.intents.put(
+                JournalFile.lane(key),
+                new Intent(key, fields[4], new TagRefGl(fields[4], fields[5], fields[6]))
+            );
+        }
+    }
+
+    private static List<String> lane(final Key key) {
+        return List.of(key.project(), key.prefix());
+    }
+
+    private static String line(final String... fields) {
+        final StringBuilder line = new StringBuilder();
+        for (final String field : fields) {
+            if (!line.isEmpty()) {
+                line.append('\t');
+            }
+            line.append(URLEncoder.encode(field, StandardCharsets.UTF_8));
+        }
+        return line.append('\n').toString();
+    }
+
+    /**
+     * Records written and synced at once.
+     *
+     * @since 0.1.0
+     */
+    private static final class Batch {
+        /**
+         * Records.
+         */
+        private final List<String> lines;
+
+        /**
+         * Batch is written or failed.
+         */
+        private boolean done;
+
+        /**
+         * Batch is synced to disk.
+         */
+        private boolean synced;
+
+        Batch() {
+            this.lines = new ArrayList<>();
+        }
+
+        List<String> lines() {
+            return this.lines;
+        }
+
+        boolean done() {
+            return this.done;
+        }
+
+        boolean synced() {
+            return this.synced;
+        }
+
+        void finished(final boolean success) {
+            this.synced = success;
+            this.done = true;
+        }
+    }
+}
@@ -24,16 +24,21 @@
 
 package io.github.artemget.tagrelease.domain;
 
-import com.amihaiemil.eoyaml.Yaml;
 import com.jcabi.http.Request;
 import com.jcabi.http.response.RestResponse;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
 import io.github.artemget.entrys.fake.EFake;
 import io.github.artemget.entrys.json.EJsonStr;
+import io.github.artemget.tagrelease.entry.EImageTag;
 import io.github.artemget.tagrelease.exception.DomainException;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import javax.json.Json;
 
 /**
@@ -66,7 +71,8 @@ public final class ServiceEa implements Service {
             id.value(),
             name.value(),
             new EFake<>(
-                Yaml.createYamlInput(
+                new EImageTag(
+                    ServiceEa.decoded(
                         new EJsonStr(
                             Json.createReader(
                                 new StringReader(
@@ -75,9 +81,8 @@ public final class ServiceEa implements Service {
                             ).readObject()
                             , "content"
                         ).value()
-                    ).readYamlMapping()
-                    .yamlMapping("image")
-                    .string("tag")
+                    )
+                ).value()
             )
         );
     }
@@ -114,4 +119,18 @@ public final class ServiceEa implements Service {
             );
         }
     }
+
+    /**
+     * Opens base64 encoded file, decoded while it is read.
+     * @param base64 Encoded file
+     * @return Opens decoded file
+     */
+    private static Entry<Reader> decoded(final String base64) {
+        return () -> new InputStreamReader(
+            Base64.getMimeDecoder().wrap(
+                new ByteArrayInputStream(base64.getBytes(StandardCharsets.US_ASCII))
+            ),
+            StandardCharsets.UTF_8
+        );
+    }
 }
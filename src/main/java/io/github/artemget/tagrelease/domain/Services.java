@@ -25,6 +25,8 @@
 package io.github.artemget.tagrelease.domain;
 
 import io.github.artemget.tagrelease.exception.DomainException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import org.cactoos.Text;
 
@@ -46,9 +48,26 @@ public interface Services {
      */
     Service service(String name) throws DomainException;
 
+    /**
+     * Returns services from stand by their names at once.
+     * @param names Of services
+     * @return Found services in order of names and names of not found ones
+     */
+    Resolved resolved(Collection<String> names) throws DomainException;
+
+    /**
+     * Services resolved by names.
+     * @param found Services
+     * @param missed Names of not found services
+     * @since 0.1.0
+     */
+    record Resolved(List<Service> found, List<String> missed) {
+    }
+
     /**
      * Printed Services.
      * Format: ```java %s:%s```\n
+     * Services failed to fetch tag are listed after.
      * @since 0.1.0
      */
     final class Printed implements Text {
@@ -68,8 +87,24 @@ public interface Services {
         @Override
         public String asString() throws DomainException {
             final StringBuilder string = new StringBuilder();
+            final List<String> failed = new ArrayList<>(0);
             for (final Service service : this.services.services()) {
-                string.append(String.format("```java %s:%s```\n", service.name(), service.tag()));
+                final String tag;
+                try {
+                    tag = service.tag();
+                } catch (final DomainException exception) {
+                    failed.add(service.name());
+                    continue;
+                }
+                string.append(String.format("```java %s:%s```\n", service.name(), tag));
+            }
+            if (!failed.isEmpty()) {
+                string.append(
+                    String.format(
+                        "Ошибка получения тегов по сервисам:\n```\n%s\n```\n",
+                        String.join("\n", failed)
+                    )
+                );
             }
             return string.toString();
         }
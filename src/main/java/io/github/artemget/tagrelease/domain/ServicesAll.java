@@ -24,100 +24,224 @@
 
 package io.github.artemget.tagrelease.domain;
 
-import com.jcabi.http.Request;
-import com.jcabi.http.request.JdkRequest;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
-import io.github.artemget.entrys.json.EJsonStr;
-import io.github.artemget.tagrelease.entry.EFetchArr;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import io.github.artemget.tagrelease.entry.EFetchPages;
+import io.github.artemget.tagrelease.entry.EFetchRecs;
+import io.github.artemget.tagrelease.entry.EFetchShared;
 import io.github.artemget.tagrelease.entry.EFunc;
+import io.github.artemget.tagrelease.entry.EList;
+import io.github.artemget.tagrelease.entry.ERefreshed;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.entry.Projection;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import javax.json.JsonArray;
-import javax.json.JsonObject;
-import javax.json.JsonValue;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Fetch repositories(services) from gitlab project.
  * @since 0.0.1
  */
 public final class ServicesAll implements Services {
-    private final EFunc<String, JsonArray> named;
-    private final Entry<JsonArray> all;
+    /**
+     * Project fields used by services.
+     */
+    private static final Projection<ProjectGl> PROJECT = new Projection<>(
+        values -> new ProjectGl(values.get(0), values.get(1)),
+        "id", "name"
+    );
+
+    private final EFunc<String, Stream<ProjectGl>> named;
+    private final Entry<List<ProjectGl>> all;
+
+    /**
+     * Projects of group by lower case name.
+     */
+    private final Entry<Map<String, ProjectGl>> index;
+
+    public ServicesAll(
+        final Http http,
+        final Entry<String> host,
+        final Entry<String> project,
+        final Entry<String> token
+    ) {
+        this(http, new Etags(), new Flights(), host, project, token);
+    }
 
     public ServicesAll(
+        final Http http,
+        final Etags etags,
+        final Flights flights,
         final Entry<String> host,
         final Entry<String> project,
         final Entry<String> token
     ) {
         this(
-            (service) -> new EFetchArr(
-                new JdkRequest(
-                    String.format("%s/api/v4/groups/%s/projects?search=%s", host.value(), project.value(), service)
-                ).method(Request.GET)
+            (service) -> new EFetchPages<>(
+                http,
+                HttpRequest.newBuilder(
+                    URI.create(
+                        String.format(
+                            "%s/api/v4/groups/%s/projects?search=%s&per_page=100",
+                            host.value(), project.value(), service
+                        )
+                    )
+                ).GET()
                     .header("Accept", "application/json")
                     .header("PRIVATE-TOKEN", token.value())
+                    .build(),
+                response -> new EFetchRecs<>(response::body, ServicesAll.PROJECT).value()
             ).value(),
-            () -> new EFetchArr(
-                new JdkRequest(String.format("%s/api/v4/groups/%s/projects", host.value(), project.value()))
-                    .method(Request.GET)
+            () -> {
+                final HttpRequest request = HttpRequest.newBuilder(
+                    URI.create(
+                        String.format(
+                            "%s/api/v4/groups/%s/projects?per_page=100",
+                            host.value(), project.value()
+                        )
+                    )
+                ).GET()
                     .header("Accept", "application/json")
                     .header("PRIVATE-TOKEN", token.value())
-            ).value()
+                    .build();
+                return new EFetchShared<>(
+                    request,
+                    new EList<>(
+                        new EFetchPages<>(
+                            http,
+                            request,
+                            response -> new EFetchRecs<>(response::body, ServicesAll.PROJECT).value(),
+                            etags
+                        )
+                    ),
+                    flights
+                ).value();
+            }
+        );
+    }
+
+    public ServicesAll(final EFunc<String, Stream<ProjectGl>> named, final Entry<List<ProjectGl>> all) {
+        this(
+            named,
+            all,
+            new ERefreshed<>(() -> ServicesAll.indexed(all.value()), Duration.ofMinutes(5))
         );
     }
 
-    public ServicesAll(final EFunc<String, JsonArray> named, final Entry<JsonArray> all) {
+    /**
+     * Main ctor.
+     * Services are looked up at index, search is used for names missed by index.
+     *
+     * @param named Searches projects by name
+     * @param all All projects of group
+     * @param index Projects of group by lower case name
+     */
+    public ServicesAll(
+        final EFunc<String, Stream<ProjectGl>> named,
+        final Entry<List<ProjectGl>> all,
+        final Entry<Map<String, ProjectGl>> index
+    ) {
         this.named = named;
         this.all = all;
+        this.index = index;
     }
 
     @Override
     public List<Service> services() throws DomainException {
-        final JsonArray response;
+        final List<ProjectGl> response;
         try {
             response = this.all.value();
         } catch (final EntryException exception) {
             throw new DomainException("Failed to fetch all services from gitlab", exception);
         }
-        final List<Service> services = new ArrayList<>();
-        for (final JsonValue service : response) {
-            services.add(this.parsed(service));
+        final List<Service> services = new ArrayList<>(response.size());
+        for (final ProjectGl project : response) {
+            services.add(ServicesAll.parsed(project));
         }
         return services;
     }
 
     @Override
     public Service service(String name) throws DomainException {
-        final JsonArray response;
+        Optional<ProjectGl> found;
+        try {
+            found = Optional.ofNullable(this.index.value().get(name.toLowerCase(Locale.ROOT)));
+        } catch (final EntryException exception) {
+            found = Optional.empty();
+        }
+        if (found.isEmpty()) {
+            found = this.searched(name);
+        }
+        return ServicesAll.parsed(
+            found.orElseThrow(
+                () -> new DomainException(String.format("No service with name: %s", name))
+            )
+        );
+    }
+
+    @Override
+    public Resolved resolved(final Collection<String> names) throws DomainException {
+        Map<String, ProjectGl> index;
         try {
-            response = this.named.apply(name);
+            index = this.index.value();
         } catch (final EntryException exception) {
+            index = Map.of();
+        }
+        final List<Service> found = new ArrayList<>(names.size());
+        final List<String> missed = new ArrayList<>(0);
+        for (final String name : names) {
+            Optional<ProjectGl> project = Optional.ofNullable(index.get(name.toLowerCase(Locale.ROOT)));
+            if (project.isEmpty()) {
+                try {
+                    project = this.searched(name);
+                } catch (final DomainException exception) {
+                    project = Optional.empty();
+                }
+            }
+            if (project.isPresent()) {
+                found.add(ServicesAll.parsed(project.get()));
+            } else {
+                missed.add(name);
+            }
+        }
+        return new Resolved(found, missed);
+    }
+
+    private Optional<ProjectGl> searched(final String name) throws DomainException {
+        final Optional<ProjectGl> found;
+        try (Stream<ProjectGl> projects = this.named.apply(name)) {
+            found = projects.filter(project -> name.equals(project.name())).findFirst();
+        } catch (final EntryException | EntryExceptionUnchecked exception) {
             throw new DomainException(
                 String.format("Failed to fetch '%s' service from gitlab", name),
                 exception
             );
         }
-        for (final JsonValue value : response) {
-            final Service service = this.parsed(value);
-            if (name.equals(service.name())) {
-                return service;
-            }
-        }
-        throw new DomainException(String.format("No service with name: %s", name));
+        return found;
     }
 
-    private Service parsed(final JsonValue service) throws DomainException {
-        try {
-            JsonObject json = service.asJsonObject();
-            return new ServiceEa(
-                String.valueOf(json.getInt("id")),
-                new EJsonStr(json, "name").value(),
-                () -> ""
-            );
-        } catch (final EntryException | ClassCastException exception) {
-            throw new DomainException("Failed to parse service from gitlab", exception);
+    private static Map<String, ProjectGl> indexed(final List<ProjectGl> projects) {
+        final Map<String, ProjectGl> index = new HashMap<>(projects.size() * 2);
+        for (final ProjectGl project : projects) {
+            index.putIfAbsent(project.name().toLowerCase(Locale.ROOT), project);
         }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static Service parsed(final ProjectGl project) {
+        return new ServiceEa(project.id(), project.name(), () -> "");
     }
 }
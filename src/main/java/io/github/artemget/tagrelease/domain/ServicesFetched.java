@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Services with tags fetched in parallel at virtual threads.
+ * Should wrap services, which tags are printed all at once. Service, which
+ * tag failed to fetch or was not fetched till deadline, fails on tag request,
+ * other services are kept.
+ * @since 0.1.0
+ */
+public final class ServicesFetched implements Services {
+    /**
+     * Origin services.
+     */
+    private final Services origin;
+
+    /**
+     * Permits to fetch tag, may be shared with other services.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Time to fetch tags of all services.
+     */
+    private final Duration deadline;
+
+    /**
+     * Ctor.
+     * Fetches up to 8 tags at once, for 30 seconds at most.
+     * @param origin Services
+     */
+    public ServicesFetched(final Services origin) {
+        this(origin, 8, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Ctor.
+     * @param origin Services
+     * @param parallel Max count of tags fetched at once
+     * @param deadline Time to fetch tags of all services
+     */
+    public ServicesFetched(final Services origin, final int parallel, final Duration deadline) {
+        this(origin, new Semaphore(parallel), deadline);
+    }
+
+    /**
+     * Main ctor.
+     * @param origin Services
+     * @param permits Permits to fetch tag, may be shared with other services
+     * @param deadline Time to fetch tags of all services
+     */
+    public ServicesFetched(
+        final Services origin,
+        final Semaphore permits,
+        final Duration deadline
+    ) {
+        this.origin = origin;
+        this.permits = permits;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public List<Service> services() throws DomainException {
+        return this.fetched(this.origin.services());
+    }
+
+    @Override
+    public Service service(final String name) throws DomainException {
+        return this.origin.service(name);
+    }
+
+    @Override
+    public Resolved resolved(final Collection<String> names) throws DomainException {
+        final Resolved resolved = this.origin.resolved(names);
+        return new Resolved(this.fetched(resolved.found()), resolved.missed());
+    }
+
+    /**
+     * Services with fetched tags.
+     * @param services Services
+     * @return Services in same order
+     */
+    private List<Service> fetched(final List<Service> services) {
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            final List<Future<String>> tags = new ArrayList<>(services.size());
+            for (final Service service : services) {
+                tags.add(
+                    executor.submit(
+                        () -> {
+                            this.permits.acquire();
+                            try {
+                                return service.tag();
+                            } finally {
+                                this.permits.release();
+                            }
+                        }
+                    )
+                );
+            }
+            final long end = System.nanoTime() + this.deadline.toNanos();
+            final List<Service> fetched = new ArrayList<>(services.size());
+            for (int index = 0; index < services.size(); ++index) {
+                final Service service = services.get(index);
+                fetched.add(
+                    new ServiceEa(
+                        service.id(),
+                        service.name(),
+                        ServicesFetched.awaited(service.name(), tags.get(index), end)
+                    )
+                );
+            }
+            return fetched;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Entry<String> awaited(
+        final String name,
+        final Future<String> future,
+        final long end
+    ) {
+        Entry<String> tag;
+        try {
+            final String value = future.get(
+                Math.max(0, end - System.nanoTime()),
+                TimeUnit.NANOSECONDS
+            );
+            tag = () -> value;
+        } catch (final ExecutionException exception) {
+            tag = () -> {
+                throw new EntryException(
+                    String.format("Failed to fetch tag for service:'%s'", name),
+                    exception.getCause()
+                );
+            };
+        } catch (final TimeoutException exception) {
+            future.cancel(true);
+            tag = () -> {
+                throw new EntryException(
+                    String.format("Deadline exceeded while fetching tag for service:'%s'", name),
+                    exception
+                );
+            };
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            tag = () -> {
+                throw new EntryException(
+                    String.format("Interrupted while fetching tag for service:'%s'", name),
+                    exception
+                );
+            };
+        }
+        return tag;
+    }
+}
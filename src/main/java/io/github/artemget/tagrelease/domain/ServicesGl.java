@@ -24,24 +24,32 @@
 
 package io.github.artemget.tagrelease.domain;
 
-import com.amihaiemil.eoyaml.Yaml;
-import com.amihaiemil.eoyaml.exceptions.YamlIndentationException;
-import com.jcabi.http.Request;
-import com.jcabi.http.request.JdkRequest;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
-import io.github.artemget.entrys.json.EJsonStr;
-import io.github.artemget.tagrelease.entry.EFetchArr;
-import io.github.artemget.tagrelease.entry.EFetchObj;
+import io.github.artemget.tagrelease.entry.EFetchBody;
+import io.github.artemget.tagrelease.entry.EFetchPages;
+import io.github.artemget.tagrelease.entry.EFetchRecs;
+import io.github.artemget.tagrelease.entry.EFetchShared;
 import io.github.artemget.tagrelease.entry.EFunc;
+import io.github.artemget.tagrelease.entry.EImageTag;
+import io.github.artemget.tagrelease.entry.EList;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.entry.Projection;
+import io.github.artemget.tagrelease.entry.Shas;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import javax.json.JsonArray;
-import javax.json.JsonObject;
-import javax.json.JsonValue;
-import org.apache.commons.codec.binary.Base64;
+import java.util.Map;
 
 /**
  * Applications from gitlab.
@@ -49,118 +57,288 @@ import org.apache.commons.codec.binary.Base64;
  */
 public final class ServicesGl implements Services {
     /**
-     * List repository tree. Each directory with name not starting with _ prefix - is a service.
+     * Tree node fields used by services.
+     */
+    private static final Projection<NodeGl> NODE = new Projection<>(
+        values -> new NodeGl(values.get(0), values.get(1), values.get(2), values.get(3)),
+        "id", "name", "type", "path"
+    );
+
+    /**
+     * List repository tree recursively. Each root directory with name not starting
+     * with _ prefix - is a service, it's values file is a blob with known sha.
      * GET /projects/:id/repository/tree
      */
-    private final Entry<JsonArray> services;
+    private final Entry<List<NodeGl>> services;
 
     /**
-     * Get file from repository. Tag name placed under image:tag: in this file.
-     * GET /projects/:id/repository/files/:file_path
+     * Image tag from values file blob. Tag name placed under image:tag: in this file.
+     * GET /projects/:id/repository/blobs/:sha/raw
      */
-    private final EFunc<String, JsonObject> tag;
+    private final EFunc<NodeGl, String> tag;
 
     /**
      * Ctor configures https req to gitlab services.
+     * @param http Transport
+     * @param etags Cached responses
+     * @param flights Requests in flight
+     * @param shas Image tags by sha of values file
      * @param url Of gitlab
      * @param release Where to search services
      * @param branch Project which services belong to
      * @param token Api token
+     * @checkstyle ParameterNumberCheck (15 lines)
      */
     public ServicesGl(
+        final Http http,
+        final Etags etags,
+        final Flights flights,
+        final Shas<String> shas,
         final Entry<String> url,
         final Entry<String> release,
         final Entry<String> branch,
         final Entry<String> token
     ) {
-        this(() -> new EFetchArr(
-                new JdkRequest(
-                    String.format(
-                        "%s/api/v4/projects/%s/repository/tree?ref=%s&per_page=100",
-                        url.value(), release.value(), branch.value()
-                    )
-                ).method(Request.GET)
-                    .header("Accept", "application/json")
-                    .header("PRIVATE-TOKEN", token.value())
-            ).value(),
-            (service) -> new EFetchObj(
-                new JdkRequest(
-                    String.format(
-                        "%s/api/v4/projects/%s/repository/files/%s?ref=%s",
-                        url.value(), release.value(), service.concat("%2Fvalues.yaml"), branch.value()
-                    )
-                ).method(Request.GET)
-                    .header("Accept", "application/json")
-                    .header("PRIVATE-TOKEN", token.value())
-            ).value()
+        this(
+            ServicesGl.tree(http, etags, flights, url, release, branch, token, true),
+            (blob) -> shas.value(
+                blob.id(),
+                () -> {
+                    final HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(
+                            String.format(
+                                "%s/api/v4/projects/%s/repository/blobs/%s/raw",
+                                url.value(), release.value(), blob.id()
+                            )
+                        )
+                    ).GET()
+                        .header("PRIVATE-TOKEN", token.value())
+                        .build();
+                    return new EFetchShared<>(
+                        request,
+                        () -> ServicesGl.image(blob.path(), http, request),
+                        flights
+                    ).value();
+                }
+            )
         );
     }
 
     /**
      * Main ctor.
      * @param services At gitlab
+     * @param tag Image tag from values file blob
      */
-    public ServicesGl(final Entry<JsonArray> services, final EFunc<String, JsonObject> tag) {
+    public ServicesGl(final Entry<List<NodeGl>> services, final EFunc<NodeGl, String> tag) {
         this.services = services;
         this.tag = tag;
     }
 
     @Override
     public List<Service> services() throws DomainException {
-        final JsonArray array;
-        try {
-            array = this.services.value();
-        } catch (final EntryException exception) {
-            throw new DomainException("Failed to fetch services from stand", exception);
-        }
-        final List<Service> services = new ArrayList<>();
-        for (final JsonValue dir : array) {
-            final JsonObject json = dir.asJsonObject();
-            final String name = json.getString("name");
-            final boolean directory = json.getString("type").equals("tree");
-            final boolean service = !name.startsWith("_");
-            if (directory && service) {
-                services.add(this.service(name));
+        final List<NodeGl> nodes = this.nodes();
+        final List<String> names = new ArrayList<>();
+        for (final NodeGl node : nodes) {
+            if (ServicesGl.service(node)) {
+                names.add(node.name());
             }
         }
+        final Map<String, NodeGl> files = ServicesGl.files(nodes);
+        final List<Service> services = new ArrayList<>(names.size());
+        for (final String name : names) {
+            services.add(new ServiceEa("", name, () -> this.tagged(name, files)));
+        }
         return services;
     }
 
+    @Override
+    public Resolved resolved(final Collection<String> names) throws DomainException {
+        final List<NodeGl> nodes = this.nodes();
+        final Map<String, NodeGl> files = ServicesGl.files(nodes);
+        final Map<String, NodeGl> present = new HashMap<>(nodes.size() * 2);
+        for (final NodeGl node : nodes) {
+            if (ServicesGl.service(node)) {
+                present.put(node.name(), node);
+            }
+        }
+        final List<Service> found = new ArrayList<>(names.size());
+        final List<String> missed = new ArrayList<>(0);
+        for (final String name : names) {
+            if (present.containsKey(name)) {
+                found.add(new ServiceEa("", name, () -> this.tagged(name, files)));
+            } else {
+                missed.add(name);
+            }
+        }
+        return new Resolved(found, missed);
+    }
+
     @Override
     public Service service(final String name) throws DomainException {
         return new ServiceEa(
             "",
             name,
             () -> {
-                final JsonObject json;
+                final List<NodeGl> nodes;
                 try {
-                    json = this.tag.apply(name);
+                    nodes = this.services.value();
                 } catch (final EntryException exception) {
                     throw new EntryException(
                         String.format("Failed to fetch '%s' service from stand", name),
                         exception
                     );
                 }
-                final String content;
-                try {
-                    content = new String(Base64.decodeBase64(new EJsonStr(json, "content").value()));
-                } catch (final EntryException exception) {
-                    throw new EntryException(
-                        String.format("Failed to get content for service:'%s' from:'%s'", name, json),
-                        exception
-                    );
-                }
-                try {
-                    return Yaml.createYamlInput(content).readYamlMapping()
-                        .yamlMapping("image")
-                        .string("tag");
-                } catch (final IOException | YamlIndentationException exception) {
-                    throw new EntryException(
-                        String.format("Failed to get content for service:'%s' from:'%s'", name, json),
-                        exception
-                    );
-                }
+                return this.tagged(name, ServicesGl.files(nodes));
             }
         );
     }
+
+    private List<NodeGl> nodes() throws DomainException {
+        try {
+            return this.services.value();
+        } catch (final EntryException exception) {
+            throw new DomainException("Failed to fetch services from stand", exception);
+        }
+    }
+
+    private String tagged(final String name, final Map<String, NodeGl> files)
+        throws EntryException {
+        final NodeGl blob = files.get(String.format("%s/values.yaml", name));
+        if (blob == null) {
+            throw new EntryException(
+                String.format("No values file for service:'%s' at stand", name)
+            );
+        }
+        try {
+            return this.tag.apply(blob);
+        } catch (final EntryException exception) {
+            throw new EntryException(
+                String.format("Failed to fetch '%s' service from stand", name),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Values files blobs of services by path.
+     * @param nodes Of repository tree
+     * @return Blobs
+     */
+    private static Map<String, NodeGl> files(final List<NodeGl> nodes) {
+        final Map<String, NodeGl> files = new HashMap<>();
+        for (final NodeGl node : nodes) {
+            if ("blob".equals(node.type()) && node.path().endsWith("/values.yaml")) {
+                files.put(node.path(), node);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Image tag from values file of service, read from response stream.
+     * Response is read only till tag.
+     * @param name Of service
+     * @param http Transport
+     * @param request Of values file
+     * @return Tag
+     * @throws EntryException If file failed to fetch or has no tag
+     */
+    private static String image(final String name, final Http http, final HttpRequest request)
+        throws EntryException {
+        try (InputStream body = new EFetchBody(http, request).value()) {
+            return new EImageTag(() -> new InputStreamReader(body, StandardCharsets.UTF_8)).value();
+        } catch (final IOException exception) {
+            throw new EntryException(
+                String.format("Failed to read resource:%s", request.uri()),
+                exception
+            );
+        } catch (final EntryException exception) {
+            throw new EntryException(
+                String.format("Failed to get image tag for service:'%s' from:%s", name, request.uri()),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Lists repository tree of stand.
+     * GET /projects/:id/repository/tree
+     * @param http Transport
+     * @param etags Cached responses
+     * @param flights Requests in flight
+     * @param url Of gitlab
+     * @param release Where to search services
+     * @param branch Of stand
+     * @param token Api token
+     * @param recursive Whether to list nested nodes too
+     * @return Nodes of repository root
+     * @checkstyle ParameterNumberCheck (15 lines)
+     */
+    static Entry<List<NodeGl>> tree(
+        final Http http,
+        final Etags etags,
+        final Flights flights,
+        final Entry<String> url,
+        final Entry<String> release,
+        final Entry<String> branch,
+        final Entry<String> token,
+        final boolean recursive
+    ) {
+        return () -> {
+            final HttpRequest request = HttpRequest.newBuilder(
+                URI.create(
+                    String.format(
+                        "%s/api/v4/projects/%s/repository/tree?ref=%s&recursive=%s&pagination=keyset&per_page=100",
+                        url.value(), release.value(), branch.value(), recursive
+                    )
+                )
+            ).GET()
+                .header("Accept", "application/json")
+                .header("PRIVATE-TOKEN", token.value())
+                .build();
+            return new EFetchShared<>(
+                request,
+                new EList<>(
+                    new EFetchPages<>(
+                        http,
+                        request,
+                        response -> new EFetchRecs<>(response::body, ServicesGl.NODE).value(),
+                        etags
+                    )
+                ),
+                flights
+            ).value();
+        };
+    }
+
+    /**
+     * Image tag from values file of service.
+     * Tag name placed under image:tag: in this file.
+     * @param name Of service
+     * @param content Of values file
+     * @return Tag
+     * @throws EntryException If file has no tag
+     */
+    static String image(final String name, final String content) throws EntryException {
+        try {
+            return new EImageTag(content).value();
+        } catch (final EntryException exception) {
+            throw new EntryException(
+                String.format("Failed to get image tag for service:'%s' from:'%s'", name, content),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Whether tree node is service.
+     * Each root directory with name not starting with _ prefix is a service.
+     * @param node Of tree
+     * @return True if service
+     */
+    static boolean service(final NodeGl node) {
+        return "tree".equals(node.type())
+            && !node.name().startsWith("_")
+            && node.name().equals(node.path());
+    }
 }
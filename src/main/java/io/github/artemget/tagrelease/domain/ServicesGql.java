@@ -0,0 +1,362 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.entry.EAsync;
+import io.github.artemget.tagrelease.entry.EFetchAsync;
+import io.github.artemget.tagrelease.entry.EFetchJson;
+import io.github.artemget.tagrelease.entry.EFetchObj;
+import io.github.artemget.tagrelease.entry.EFuncAsync;
+import io.github.artemget.tagrelease.entry.ESync;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
+import io.github.artemget.tagrelease.http.ReadRequest;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+/**
+ * Applications from gitlab, with values files fetched by graphql.
+ * Values files of many services are fetched with one request, in chunks
+ * to stay within query complexity limit. Chunks are requested at once, when
+ * tag of any listed service is requested first, tag of service waits only
+ * for its own chunk. Query does not change repository, so it is sent as read.
+ * @since 0.1.0
+ */
+public final class ServicesGql implements Services {
+    /**
+     * Query of files contents.
+     */
+    private static final String QUERY = String.join(
+        " ",
+        "query($ids: [ID!], $ref: String!, $paths: [String!]!) {",
+        "projects(ids: $ids) { nodes { repository {",
+        "blobs(ref: $ref, paths: $paths) { nodes { path rawBlob } }",
+        "} } } }"
+    );
+
+    /**
+     * List repository tree. Each directory with name not starting with _ prefix - is a service.
+     * GET /projects/:id/repository/tree
+     */
+    private final Entry<List<NodeGl>> services;
+
+    /**
+     * Contents of files by their paths.
+     * POST /api/graphql
+     */
+    private final EFuncAsync<List<String>, Map<String, String>> blobs;
+
+    /**
+     * Max count of files fetched by one request.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor configures requests to gitlab.
+     * @param http Transport
+     * @param etags Cached responses
+     * @param flights Requests in flight
+     * @param url Of gitlab
+     * @param release Where to search services
+     * @param branch Of stand
+     * @param token Api token
+     * @param chunk Max count of files fetched by one request
+     * @checkstyle ParameterNumberCheck (15 lines)
+     */
+    public ServicesGql(
+        final Http http,
+        final Etags etags,
+        final Flights flights,
+        final Entry<String> url,
+        final Entry<String> release,
+        final Entry<String> branch,
+        final Entry<String> token,
+        final int chunk
+    ) {
+        this(
+            ServicesGl.tree(http, etags, flights, url, release, branch, token, false),
+            paths -> {
+                final HttpRequest request;
+                try {
+                    request = new ReadRequest(
+                        HttpRequest.newBuilder(
+                            URI.create(String.format("%s/api/graphql", url.value()))
+                        ).POST(
+                            HttpRequest.BodyPublishers.ofString(
+                                ServicesGql.query(release.value(), branch.value(), paths)
+                            )
+                        )
+                            .header("Content-Type", "application/json")
+                            .header("Accept", "application/json")
+                            .header("Authorization", String.format("Bearer %s", token.value()))
+                            .build()
+                    );
+                } catch (final EntryException exception) {
+                    return CompletableFuture.failedFuture(exception);
+                }
+                return new EFetchAsync<>(
+                    http,
+                    request,
+                    body -> ServicesGql.blobs(new EFetchObj(new EFetchJson(() -> body)).value())
+                ).value();
+            },
+            chunk
+        );
+    }
+
+    /**
+     * Main ctor.
+     * @param services At gitlab
+     * @param blobs Contents of files by their paths
+     * @param chunk Max count of files fetched by one request
+     */
+    public ServicesGql(
+        final Entry<List<NodeGl>> services,
+        final EFuncAsync<List<String>, Map<String, String>> blobs,
+        final int chunk
+    ) {
+        this.services = services;
+        this.blobs = blobs;
+        this.chunk = chunk;
+    }
+
+    @Override
+    public List<Service> services() throws DomainException {
+        final List<String> names = new ArrayList<>();
+        for (final NodeGl node : this.nodes()) {
+            if (ServicesGl.service(node)) {
+                names.add(node.name());
+            }
+        }
+        return this.fetched(names);
+    }
+
+    @Override
+    public Service service(final String name) throws DomainException {
+        return this.fetched(List.of(name)).get(0);
+    }
+
+    @Override
+    public Resolved resolved(final Collection<String> names) throws DomainException {
+        final List<NodeGl> nodes = this.nodes();
+        final Set<String> present = new HashSet<>(nodes.size() * 2);
+        for (final NodeGl node : nodes) {
+            if (ServicesGl.service(node)) {
+                present.add(node.name());
+            }
+        }
+        final List<String> found = new ArrayList<>(names.size());
+        final List<String> missed = new ArrayList<>(0);
+        for (final String name : names) {
+            if (present.contains(name)) {
+                found.add(name);
+            } else {
+                missed.add(name);
+            }
+        }
+        return new Resolved(this.fetched(found), missed);
+    }
+
+    private List<NodeGl> nodes() throws DomainException {
+        try {
+            return this.services.value();
+        } catch (final EntryException exception) {
+            throw new DomainException("Failed to fetch services from stand", exception);
+        }
+    }
+
+    /**
+     * Services with values files fetched in chunks.
+     * Chunks are requested at first tag request. Service, which file failed
+     * to fetch, fails on tag request, other services are kept.
+     * @param names Of services
+     * @return Services in order of names
+     */
+    private List<Service> fetched(final List<String> names) {
+        final List<List<String>> parts = new ArrayList<>(names.size() / this.chunk + 1);
+        for (int start = 0; start < names.size(); start += this.chunk) {
+            parts.add(names.subList(start, Math.min(names.size(), start + this.chunk)));
+        }
+        final Chunks chunks = new Chunks(parts, this.blobs);
+        final List<Service> services = new ArrayList<>(names.size());
+        for (int index = 0; index < parts.size(); ++index) {
+            final int part = index;
+            for (final String name : parts.get(part)) {
+                services.add(
+                    new ServiceEa("", name, ServicesGql.tag(name, () -> chunks.contents(part)))
+                );
+            }
+        }
+        return services;
+    }
+
+    private static Entry<String> tag(
+        final String name,
+        final EAsync<Map<String, String>> contents
+    ) {
+        return () -> {
+            final Map<String, String> files;
+            try {
+                files = new ESync<>(contents).value();
+            } catch (final EntryException exception) {
+                throw new EntryException(
+                    String.format("Failed to fetch '%s' service from stand", name),
+                    exception
+                );
+            }
+            final String content = files.get(ServicesGql.path(name));
+            if (content == null) {
+                throw new EntryException(
+                    String.format("No values file for service:'%s' at stand", name)
+                );
+            }
+            return ServicesGl.image(name, content);
+        };
+    }
+
+    private static String path(final String name) {
+        return String.format("%s/values.yaml", name);
+    }
+
+    private static String query(final String project, final String ref, final List<String> paths) {
+        final JsonArrayBuilder files = Json.createArrayBuilder();
+        for (final String path : paths) {
+            files.add(path);
+        }
+        return Json.createObjectBuilder()
+            .add("query", ServicesGql.QUERY)
+            .add(
+                "variables",
+                Json.createObjectBuilder()
+                    .add(
+                        "ids",
+                        Json.createArrayBuilder()
+                            .add(String.format("gid://gitlab/Project/%s", project))
+                    )
+                    .add("ref", ref)
+                    .add("paths", files)
+            )
+            .build()
+            .toString();
+    }
+
+    private static Map<String, String> blobs(final JsonObject json) throws EntryException {
+        if (json.containsKey("errors")) {
+            throw new EntryException(
+                String.format("Failed to fetch files by graphql: %s", json.get("errors"))
+            );
+        }
+        final JsonArray projects = ServicesGql.nested(json, "data", "projects").getJsonArray("nodes");
+        if (projects == null || projects.isEmpty()) {
+            throw new EntryException("Failed to find release project by graphql");
+        }
+        final JsonArray blobs = ServicesGql.nested(
+            projects.getJsonObject(0), "repository", "blobs"
+        ).getJsonArray("nodes");
+        final Map<String, String> contents = new HashMap<>();
+        if (blobs != null) {
+            for (final JsonObject blob : blobs.getValuesAs(JsonObject.class)) {
+                if (!blob.isNull("rawBlob")) {
+                    contents.put(blob.getString("path"), blob.getString("rawBlob"));
+                }
+            }
+        }
+        return contents;
+    }
+
+    private static JsonObject nested(final JsonObject json, final String... keys)
+        throws EntryException {
+        JsonObject nested = json;
+        for (final String key : keys) {
+            if (!(nested.get(key) instanceof JsonObject)) {
+                throw new EntryException(
+                    String.format("Failed to map graphql response:%s, no object:'%s'", json, key)
+                );
+            }
+            nested = nested.getJsonObject(key);
+        }
+        return nested;
+    }
+
+    /**
+     * Contents of files of chunks, requested all at once at first demand.
+     *
+     * @since 0.1.0
+     */
+    private static final class Chunks {
+        /**
+         * Names of services by chunk.
+         */
+        private final List<List<String>> parts;
+
+        /**
+         * Contents of files by their paths.
+         */
+        private final EFuncAsync<List<String>, Map<String, String>> blobs;
+
+        /**
+         * Requested contents by chunk, null before first demand.
+         */
+        private List<CompletableFuture<Map<String, String>>> requested;
+
+        Chunks(
+            final List<List<String>> parts,
+            final EFuncAsync<List<String>, Map<String, String>> blobs
+        ) {
+            this.parts = parts;
+            this.blobs = blobs;
+        }
+
+        synchronized CompletableFuture<Map<String, String>> contents(final int part) {
+            if (this.requested == null) {
+                this.requested = new ArrayList<>(this.parts.size());
+                for (final List<String> names : this.parts) {
+                    final List<String> paths = new ArrayList<>(names.size());
+                    for (final String name : names) {
+                        paths.add(ServicesGql.path(name));
+                    }
+                    this.requested.add(this.blobs.apply(paths));
+                }
+            }
+            return this.requested.get(part);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Services remembered after they are listed.
+ * Should wrap services of immutable source, like stand at commit sha.
+ * Tag of each service is fetched at it's first request and remembered.
+ * Failed tags are not remembered, so they are fetched again at next request.
+ * @since 0.1.0
+ */
+public final class ServicesMemo implements Services {
+    /**
+     * Origin services.
+     */
+    private final Services origin;
+
+    /**
+     * Remembered services, null till services are listed.
+     */
+    private volatile List<Service> remembered;
+
+    /**
+     * Main ctor.
+     * @param origin Services
+     */
+    public ServicesMemo(final Services origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public List<Service> services() throws DomainException {
+        List<Service> services = this.remembered;
+        if (services == null) {
+            final List<Service> listed = this.origin.services();
+            final List<Service> memo = new ArrayList<>(listed.size());
+            for (final Service service : listed) {
+                memo.add(new ServiceEa(service.id(), service.name(), new Tag(service)));
+            }
+            services = Collections.unmodifiableList(memo);
+            this.remembered = services;
+        }
+        return services;
+    }
+
+    @Override
+    public Service service(final String name) throws DomainException {
+        final List<Service> services = this.remembered;
+        Service found = null;
+        if (services == null) {
+            found = this.origin.service(name);
+        } else {
+            for (final Service service : services) {
+                if (service.name().equals(name)) {
+                    found = service;
+                    break;
+                }
+            }
+            if (found == null) {
+                throw new DomainException(String.format("No service with name: %s", name));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Resolved resolved(final Collection<String> names) throws DomainException {
+        final List<Service> services = this.remembered;
+        final Resolved resolved;
+        if (services == null) {
+            resolved = this.origin.resolved(names);
+        } else {
+            final List<Service> found = new ArrayList<>(names.size());
+            final List<String> missed = new ArrayList<>(0);
+            for (final String name : names) {
+                final int before = found.size();
+                for (final Service service : services) {
+                    if (service.name().equals(name)) {
+                        found.add(service);
+                        break;
+                    }
+                }
+                if (found.size() == before) {
+                    missed.add(name);
+                }
+            }
+            resolved = new Resolved(found, missed);
+        }
+        return resolved;
+    }
+
+    /**
+     * Tag of service, remembered after it is fetched.
+     * @since 0.1.0
+     */
+    private static final class Tag implements Entry<String> {
+        /**
+         * Origin service.
+         */
+        private final Service service;
+
+        /**
+         * Remembered tag, null till it is fetched.
+         */
+        private volatile String remembered;
+
+        /**
+         * Main ctor.
+         * @param service Origin service
+         */
+        Tag(final Service service) {
+            this.service = service;
+        }
+
+        @Override
+        public String value() throws EntryException {
+            String tag = this.remembered;
+            if (tag == null) {
+                try {
+                    tag = this.service.tag();
+                } catch (final DomainException exception) {
+                    throw new EntryException(
+                        String.format("Failed to fetch tag for service:'%s'", this.service.name()),
+                        exception
+                    );
+                }
+                this.remembered = tag;
+            }
+            return tag;
+        }
+    }
+}
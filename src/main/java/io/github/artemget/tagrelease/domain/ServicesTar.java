@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.entry.EFetchBody;
+import io.github.artemget.tagrelease.entry.Tar;
+import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Applications from gitlab, read from repository archive of stand.
+ * Archive is streamed, decompressed and walked on the fly, only values files
+ * are read, so whole stand is loaded with single request without disk.
+ * Should be read at immutable commit sha, as archive is loaded once and
+ * remembered. Failed load is not remembered.
+ * @since 0.1.0
+ */
+public final class ServicesTar implements Services {
+    /**
+     * Values files contents by service name, services without values file
+     * have no content.
+     * GET /projects/:id/repository/archive.tar.gz
+     */
+    private final Entry<Map<String, Optional<String>>> snapshot;
+
+    /**
+     * Loaded values files contents by service name, null till loaded.
+     */
+    private volatile Map<String, Optional<String>> loaded;
+
+    /**
+     * Ctor configures request to gitlab.
+     * @param http Transport
+     * @param url Of gitlab
+     * @param release Where to search services
+     * @param branch Of stand
+     * @param token Api token
+     */
+    public ServicesTar(
+        final Http http,
+        final Entry<String> url,
+        final Entry<String> release,
+        final Entry<String> branch,
+        final Entry<String> token
+    ) {
+        this(
+            () -> {
+                final HttpRequest request = HttpRequest.newBuilder(
+                    URI.create(
+                        String.format(
+                            "%s/api/v4/projects/%s/repository/archive.tar.gz?sha=%s",
+                            url.value(), release.value(), branch.value()
+                        )
+                    )
+                ).GET()
+                    .header("PRIVATE-TOKEN", token.value())
+                    .build();
+                try (InputStream body = new EFetchBody(http, request).value();
+                    InputStream tar = new GZIPInputStream(body, 65_536)) {
+                    return ServicesTar.walked(new Tar(tar));
+                } catch (final IOException exception) {
+                    throw new EntryException(
+                        String.format("Failed to read archive:%s", request.uri()),
+                        exception
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Main ctor.
+     * @param snapshot Values files contents by service name
+     */
+    public ServicesTar(final Entry<Map<String, Optional<String>>> snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public List<Service> services() throws DomainException {
+        final Map<String, Optional<String>> snapshot = this.loaded();
+        final List<Service> services = new ArrayList<>(snapshot.size());
+        for (final Map.Entry<String, Optional<String>> service : snapshot.entrySet()) {
+            services.add(ServicesTar.service(service.getKey(), service.getValue()));
+        }
+        return services;
+    }
+
+    @Override
+    public Service service(final String name) throws DomainException {
+        final Map<String, Optional<String>> snapshot = this.loaded();
+        if (!snapshot.containsKey(name)) {
+            throw new DomainException(String.format("No service with name: %s", name));
+        }
+        return ServicesTar.service(name, snapshot.get(name));
+    }
+
+    @Override
+    public Resolved resolved(final Collection<String> names) throws DomainException {
+        final Map<String, Optional<String>> snapshot = this.loaded();
+        final List<Service> found = new ArrayList<>(names.size());
+        final List<String> missed = new ArrayList<>(0);
+        for (final String name : names) {
+            if (snapshot.containsKey(name)) {
+                found.add(ServicesTar.service(name, snapshot.get(name)));
+            } else {
+                missed.add(name);
+            }
+        }
+        return new Resolved(found, missed);
+    }
+
+    private Map<String, Optional<String>> loaded() throws DomainException {
+        Map<String, Optional<String>> loaded = this.loaded;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = this.loaded;
+                if (loaded == null) {
+                    try {
+                        loaded = this.snapshot.value();
+                    } catch (final EntryException exception) {
+                        throw new DomainException(
+                            "Failed to fetch services from stand archive",
+                            exception
+                        );
+                    }
+                    this.loaded = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static Service service(final String name, final Optional<String> content) {
+        return new ServiceEa(
+            "",
+            name,
+            () -> ServicesGl.image(
+                name,
+                content.orElseThrow(
+                    () -> new EntryException(
+                        String.format("No values file for service:'%s' at stand", name)
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * Values files by service, walked from archive.
+     * Archive root is single directory named by project and commit,
+     * services are directories inside it.
+     * @param tar Archive entries
+     * @return Values files contents by service name, sorted
+     * @throws IOException If archive is broken
+     */
+    static Map<String, Optional<String>> walked(final Tar tar) throws IOException {
+        final Map<String, Optional<String>> snapshot = new TreeMap<>();
+        Optional<Tar.Header> next = tar.next();
+        while (next.isPresent()) {
+            final String[] path = next.get().name().split("/");
+            if (path.length >= 2 && !path[1].startsWith("_")) {
+                if (path.length == 2 && next.get().directory()) {
+                    snapshot.putIfAbsent(path[1], Optional.empty());
+                } else if (path.length == 3 && "values.yaml".equals(path[2])) {
+                    snapshot.put(
+                        path[1],
+                        Optional.of(new String(tar.content(), StandardCharsets.UTF_8))
+                    );
+                }
+            }
+            next = tar.next();
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
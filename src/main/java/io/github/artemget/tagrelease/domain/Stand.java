@@ -25,6 +25,17 @@
 package io.github.artemget.tagrelease.domain;
 
 import io.github.artemget.tagrelease.exception.DomainException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import org.cactoos.Text;
 
 /**
@@ -40,6 +51,13 @@ public interface Stand {
      */
     String name();
 
+    /**
+     * Returns head commit sha of server's branch.
+     *
+     * @return Sha
+     */
+    String head();
+
     /**
      * Returns server's services.
      *
@@ -49,8 +67,10 @@ public interface Stand {
 
     /**
      * Printed server.
+     * Tags of services are fetched at once, services not fetched till
+     * deadline are printed as failed.
      * Format:
-     *  Стенд: %s
+     *  Стенд: `%s`
      *  Сервисы:
      *      %s
      *
@@ -63,25 +83,217 @@ public interface Stand {
         private final Stand stand;
 
         /**
-         * Main ctor.
+         * Max count of tags fetched at once.
+         */
+        private final int parallel;
+
+        /**
+         * Time to fetch tags of server.
+         */
+        private final Duration deadline;
+
+        /**
+         * Ctor.
+         * Fetches up to 8 tags at once, for 30 seconds at most.
          *
          * @param stand Stand
          */
         public Printed(final Stand stand) {
+            this(stand, 8, Duration.ofSeconds(30));
+        }
+
+        /**
+         * Main ctor.
+         *
+         * @param stand Stand
+         * @param parallel Max count of tags fetched at once
+         * @param deadline Time to fetch tags of server
+         */
+        public Printed(final Stand stand, final int parallel, final Duration deadline) {
             this.stand = stand;
+            this.parallel = parallel;
+            this.deadline = deadline;
         }
 
         @Override
         public String asString() throws DomainException {
             return String.format(
                 """
-                    Стенд: %s
+                    Стенд: `%s`
                     Сервисы:
                         %s
                     """,
                 this.stand.name(),
-                new Services.Printed(this.stand.services())
+                new Services.Printed(
+                    new ServicesFetched(this.stand.services(), this.parallel, this.deadline)
+                ).asString()
             );
         }
     }
+
+    /**
+     * Printed difference of services between servers.
+     * Tags of both servers are fetched at once, sharing limit of tags fetched
+     * at once, services are compared by name.
+     * Format:
+     *  %s -> %s
+     *  + %s: %s       only at second server
+     *  - %s: %s       only at first server
+     *  ~ %s: %s -> %s tag differs
+     *  ! %s: <ошибка> tag failed to fetch at any server
+     *
+     * @since 0.1.0
+     */
+    final class Diff implements Text {
+        /**
+         * Printed instead of tag, which was failed to fetch.
+         */
+        private static final String FAILED = "<ошибка>";
+
+        /**
+         * Server compared from.
+         */
+        private final Stand from;
+
+        /**
+         * Server compared to.
+         */
+        private final Stand to;
+
+        /**
+         * Max count of tags fetched at once.
+         */
+        private final int parallel;
+
+        /**
+         * Time to fetch tags of server.
+         */
+        private final Duration deadline;
+
+        /**
+         * Ctor.
+         * Fetches up to 8 tags at once, for 30 seconds at most.
+         *
+         * @param from Server compared from
+         * @param to Server compared to
+         */
+        public Diff(final Stand from, final Stand to) {
+            this(from, to, 8, Duration.ofSeconds(30));
+        }
+
+        /**
+         * Main ctor.
+         *
+         * @param from Server compared from
+         * @param to Server compared to
+         * @param parallel Max count of tags fetched at once
+         * @param deadline Time to fetch tags of server
+         */
+        public Diff(
+            final Stand from,
+            final Stand to,
+            final int parallel,
+            final Duration deadline
+        ) {
+            this.from = from;
+            this.to = to;
+            this.parallel = parallel;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public String asString() throws DomainException {
+            final Map<String, String> before;
+            final Map<String, String> after;
+            final Semaphore permits = new Semaphore(this.parallel);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                final Future<Map<String, String>> left = executor.submit(
+                    () -> this.tags(this.from, permits)
+                );
+                final Future<Map<String, String>> right = executor.submit(
+                    () -> this.tags(this.to, permits)
+                );
+                before = Diff.awaited(left, this.from);
+                after = Diff.awaited(right, this.to);
+            }
+            final Map<String, String> lines = new TreeMap<>();
+            for (final Map.Entry<String, String> service : after.entrySet()) {
+                final String tag = before.get(service.getKey());
+                if (Diff.FAILED.equals(tag) || Diff.FAILED.equals(service.getValue())) {
+                    lines.put(
+                        service.getKey(),
+                        String.format("! %s: %s", service.getKey(), Diff.FAILED)
+                    );
+                } else if (tag == null) {
+                    lines.put(
+                        service.getKey(),
+                        String.format("+ %s: %s", service.getKey(), service.getValue())
+                    );
+                } else if (!tag.equals(service.getValue())) {
+                    lines.put(
+                        service.getKey(),
+                        String.format("~ %s: %s -> %s", service.getKey(), tag, service.getValue())
+                    );
+                }
+            }
+            for (final Map.Entry<String, String> service : before.entrySet()) {
+                if (!after.containsKey(service.getKey()) && Diff.FAILED.equals(service.getValue())) {
+                    lines.put(
+                        service.getKey(),
+                        String.format("! %s: %s", service.getKey(), Diff.FAILED)
+                    );
+                } else if (!after.containsKey(service.getKey())) {
+                    lines.put(
+                        service.getKey(),
+                        String.format("- %s: %s", service.getKey(), service.getValue())
+                    );
+                }
+            }
+            final String changes;
+            if (lines.isEmpty()) {
+                changes = "Различий нет\n";
+            } else {
+                changes = String.join("\n", lines.values()).concat("\n");
+            }
+            return String.format("%s -> %s\n%s", this.from.name(), this.to.name(), changes);
+        }
+
+        private Map<String, String> tags(final Stand stand, final Semaphore permits)
+            throws DomainException {
+            final List<Service> services = new ServicesFetched(
+                stand.services(), permits, this.deadline
+            ).services();
+            final Map<String, String> tags = new HashMap<>(services.size() * 2);
+            for (final Service service : services) {
+                String tag;
+                try {
+                    tag = service.tag();
+                } catch (final DomainException exception) {
+                    tag = Diff.FAILED;
+                }
+                tags.put(service.name(), tag);
+            }
+            return Collections.unmodifiableMap(tags);
+        }
+
+        private static Map<String, String> awaited(
+            final Future<Map<String, String>> future,
+            final Stand stand
+        ) throws DomainException {
+            try {
+                return future.get();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new DomainException(
+                    String.format("Interrupted fetch of services for stand:%s", stand.name()),
+                    exception
+                );
+            } catch (final ExecutionException exception) {
+                throw new DomainException(
+                    String.format("Failed to fetch services for stand:%s", stand.name()),
+                    exception.getCause()
+                );
+            }
+        }
+    }
 }
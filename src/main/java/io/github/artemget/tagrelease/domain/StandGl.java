@@ -35,10 +35,23 @@ import io.github.artemget.tagrelease.exception.DomainException;
  */
 public final class StandGl implements Stand {
     private final String name;
+
+    /**
+     * Head commit sha of stand branch.
+     */
+    private final String head;
+
     private final Entry<Services> services;
 
-    public StandGl(final String name, final Entry<Services> services) {
+    /**
+     * Main ctor.
+     * @param name Of stand
+     * @param head Head commit sha of stand branch
+     * @param services Of stand at head commit
+     */
+    public StandGl(final String name, final String head, final Entry<Services> services) {
         this.name = name;
+        this.head = head;
         this.services = services;
     }
 
@@ -47,6 +60,11 @@ public final class StandGl implements Stand {
         return this.name;
     }
 
+    @Override
+    public String head() {
+        return this.head;
+    }
+
     @Override
     public Services services() throws DomainException {
         try {
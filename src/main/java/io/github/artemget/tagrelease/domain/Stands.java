@@ -25,8 +25,16 @@
 package io.github.artemget.tagrelease.domain;
 
 import io.github.artemget.tagrelease.exception.DomainException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.cactoos.Text;
 
 /**
@@ -71,9 +79,150 @@ public interface Stands {
 
         @Override
         public String asString() throws DomainException {
-            return this.stands.stands().stream()
-                .map(st -> new Stand.Printed(st).toString())
-                .collect(Collectors.joining());
+            final StringBuilder printed = new StringBuilder();
+            for (final Stand stand : this.stands.stands()) {
+                printed.append(new Stand.Printed(stand).asString());
+            }
+            return printed.toString();
+        }
+    }
+
+    /**
+     * Printed servers with tags of all services, fetched in parallel.
+     * Services of server are listed without tags, then tag of each service
+     * is fetched at it's own virtual thread. Listings and tags of all servers
+     * share one limit of requests at once and one deadline, servers are printed
+     * in order they are listed. Services not fetched till deadline are printed
+     * as gaps.
+     * Format:
+     *  %s:
+     *      %s: %s
+     *
+     * @since 0.1.0
+     */
+    final class Overview implements Text {
+        /**
+         * Time given to print servers after deadline.
+         */
+        private static final long GRACE = TimeUnit.SECONDS.toNanos(1);
+
+        /**
+         * Stands.
+         */
+        private final Stands stands;
+
+        /**
+         * Max count of services and tags fetched at once.
+         */
+        private final int parallel;
+
+        /**
+         * Time to fetch all stands.
+         */
+        private final Duration deadline;
+
+        /**
+         * Main ctor.
+         * @param stands Stands
+         * @param parallel Max count of services and tags fetched at once
+         * @param deadline Time to fetch all stands
+         */
+        public Overview(final Stands stands, final int parallel, final Duration deadline) {
+            this.stands = stands;
+            this.parallel = parallel;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public String asString() throws DomainException {
+            final long end = System.nanoTime() + this.deadline.toNanos();
+            final List<Stand> stands = this.stands.stands();
+            final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                final Semaphore permits = new Semaphore(this.parallel);
+                final List<Future<String>> rendered = new ArrayList<>(stands.size());
+                for (final Stand stand : stands) {
+                    rendered.add(
+                        executor.submit(() -> Overview.rendered(stand, executor, permits, end))
+                    );
+                }
+                final StringBuilder text = new StringBuilder();
+                for (int idx = 0; idx < stands.size(); ++idx) {
+                    text.append(
+                        Overview.awaited(
+                            rendered.get(idx),
+                            end + Overview.GRACE,
+                            String.format("%s: <ошибка получения сервисов>\n", stands.get(idx).name()),
+                            String.format("%s: <не успели получить сервисы>\n", stands.get(idx).name())
+                        )
+                    );
+                }
+                return text.toString();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private static String rendered(
+            final Stand stand,
+            final ExecutorService executor,
+            final Semaphore permits,
+            final long end
+        ) throws DomainException, InterruptedException {
+            final List<Service> services;
+            permits.acquire();
+            try {
+                services = stand.services().services();
+            } finally {
+                permits.release();
+            }
+            final List<Future<String>> tags = new ArrayList<>(services.size());
+            for (final Service service : services) {
+                tags.add(
+                    executor.submit(
+                        () -> {
+                            permits.acquire();
+                            try {
+                                return service.tag();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                    )
+                );
+            }
+            final StringBuilder text = new StringBuilder(String.format("%s:\n", stand.name()));
+            for (int idx = 0; idx < services.size(); ++idx) {
+                text.append(
+                    String.format(
+                        "    %s: %s\n",
+                        services.get(idx).name(),
+                        Overview.awaited(tags.get(idx), end, "<ошибка>", "<не успели>")
+                    )
+                );
+            }
+            return text.toString();
+        }
+
+        private static String awaited(
+            final Future<String> future,
+            final long end,
+            final String failed,
+            final String late
+        ) {
+            String value;
+            try {
+                value = future.get(Math.max(0, end - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final ExecutionException exception) {
+                value = failed;
+            } catch (final TimeoutException exception) {
+                future.cancel(true);
+                value = late;
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                value = late;
+            }
+            return value;
         }
     }
 }
@@ -24,88 +24,213 @@
 
 package io.github.artemget.tagrelease.domain;
 
-import com.jcabi.http.Request;
-import com.jcabi.http.request.JdkRequest;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
-import io.github.artemget.entrys.json.EJsonStr;
-import io.github.artemget.tagrelease.entry.EFetchArr;
-import io.github.artemget.tagrelease.entry.EFetchObj;
+import io.github.artemget.tagrelease.entry.EFetchPages;
+import io.github.artemget.tagrelease.entry.EFetchRec;
+import io.github.artemget.tagrelease.entry.EFetchRecs;
+import io.github.artemget.tagrelease.entry.EFetchShared;
 import io.github.artemget.tagrelease.entry.EFunc;
+import io.github.artemget.tagrelease.entry.EList;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.entry.Projection;
+import io.github.artemget.tagrelease.entry.Shas;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.URI;
+import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.List;
-import javax.json.JsonArray;
-import javax.json.JsonObject;
-import javax.json.JsonValue;
 
 /**
  * Servers.
  * @since 0.1.0
  */
 public final class StandsGl implements Stands {
+    /**
+     * Branch fields used by stands.
+     */
+    private static final Projection<BranchGl> BRANCH = new Projection<>(
+        values -> new BranchGl(values.get(0), values.get(1)),
+        "name", "commit.id"
+    );
+
     /**
      * Gitlab request. List repository branches.
      * GET /projects/:id/repository/branches
      */
-    private final Entry<JsonArray> stands;
+    private final Entry<List<BranchGl>> stands;
 
     /**
      * Gitlab request. List repository branch by name.
      * GET /projects/:id/repository/branches
      */
-    private final EFunc<String, JsonObject> stand;
+    private final EFunc<String, BranchGl> stand;
 
+    /**
+     * Services of stand by commit sha.
+     */
     private final EFunc<String, Services> services;
 
+    /**
+     * Services of stands remembered by head commit sha.
+     */
+    private final Shas<Services> heads;
+
+    public StandsGl(
+        final Http http,
+        final Entry<String> url,
+        final Entry<String> release,
+        final Entry<String> token
+    ) {
+        this(
+            http,
+            new Etags(),
+            new Flights(),
+            new Shas<>(),
+            url,
+            release,
+            token
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param http Transport
+     * @param etags Cached responses
+     * @param flights Requests in flight
+     * @param shas Image tags by sha of values file, shared between stands
+     * @param url Of gitlab
+     * @param release Project of stands
+     * @param token Api token
+     * @checkstyle ParameterNumberCheck (15 lines)
+     */
     public StandsGl(
+        final Http http,
+        final Etags etags,
+        final Flights flights,
+        final Shas<String> shas,
         final Entry<String> url,
         final Entry<String> release,
         final Entry<String> token
     ) {
         this(
-            () -> new EFetchArr(
-                new JdkRequest(
-                    String.format("%s/api/v4/projects/%s/repository/branches", url.value(), release.value())
-                ).method(Request.GET)
+            http,
+            etags,
+            flights,
+            url,
+            release,
+            token,
+            (sha) -> new ServicesGl(
+                http, etags, flights, shas, url, release, () -> sha, token
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param http Transport
+     * @param etags Cached responses
+     * @param flights Requests in flight
+     * @param url Of gitlab
+     * @param release Project of stands
+     * @param token Api token
+     * @param services Services of stand by commit sha
+     * @checkstyle ParameterNumberCheck (15 lines)
+     */
+    public StandsGl(
+        final Http http,
+        final Etags etags,
+        final Flights flights,
+        final Entry<String> url,
+        final Entry<String> release,
+        final Entry<String> token,
+        final EFunc<String, Services> services
+    ) {
+        this(
+            () -> {
+                final HttpRequest request = HttpRequest.newBuilder(
+                    URI.create(
+                        String.format(
+                            "%s/api/v4/projects/%s/repository/branches?per_page=100",
+                            url.value(), release.value()
+                        )
+                    )
+                ).GET()
                     .header("Accept", "application/json")
                     .header("PRIVATE-TOKEN", token.value())
-            ).value(),
-            (name) -> new EFetchObj(
-                new JdkRequest(
-                    String.format(
-                        "%s/api/v4/projects/%s/repository/branches/%s",
-                        url.value(), release.value(), name
+                    .build();
+                return new EFetchShared<>(
+                    request,
+                    new EList<>(
+                        new EFetchPages<>(
+                            http,
+                            request,
+                            response -> new EFetchRecs<>(response::body, StandsGl.BRANCH).value(),
+                            etags
+                        )
+                    ),
+                    flights
+                ).value();
+            },
+            (name) -> new EFetchRec<>(
+                http,
+                HttpRequest.newBuilder(
+                    URI.create(
+                        String.format(
+                            "%s/api/v4/projects/%s/repository/branches/%s",
+                            url.value(), release.value(), name
+                        )
                     )
-                ).method(Request.GET)
+                ).GET()
                     .header("Accept", "application/json")
                     .header("PRIVATE-TOKEN", token.value())
+                    .build(),
+                StandsGl.BRANCH
             ).value(),
-            (branch) -> new ServicesGl(url, release, () -> branch, token)
+            services
         );
     }
 
     public StandsGl(
-        final Entry<JsonArray> stands,
-        final EFunc<String, JsonObject> stand,
+        final Entry<List<BranchGl>> stands,
+        final EFunc<String, BranchGl> stand,
         final EFunc<String, Services> services
+    ) {
+        this(stands, stand, services, new Shas<>(64));
+    }
+
+    /**
+     * Main ctor.
+     * @param stands Lists branches of stands
+     * @param stand Fetches branch of stand by name
+     * @param services Services of stand by commit sha
+     * @param heads Services of stands remembered by head commit sha
+     */
+    public StandsGl(
+        final Entry<List<BranchGl>> stands,
+        final EFunc<String, BranchGl> stand,
+        final EFunc<String, Services> services,
+        final Shas<Services> heads
     ) {
         this.stands = stands;
         this.stand = stand;
         this.services = services;
+        this.heads = heads;
     }
 
     @Override
     public List<Stand> stands() throws DomainException {
-        final JsonArray response;
+        final List<BranchGl> response;
         try {
             response = this.stands.value();
         } catch (final EntryException exception) {
             throw new DomainException("Failed to fetch all services from gitlab", exception);
         }
         final List<Stand> stands = new ArrayList<>();
-        for (final JsonValue branch : response) {
-            final Stand stand = this.enriched(branch.asJsonObject());
+        for (final BranchGl branch : response) {
+            final Stand stand = this.enriched(branch);
             if (!"main".equals(stand.name())) {
                 stands.add(stand);
             }
@@ -122,12 +247,21 @@ public final class StandsGl implements Stands {
         }
     }
 
-    private Stand enriched(final JsonObject service) throws DomainException {
-        try {
-            final String branch = new EJsonStr(service, "name").value();
-            return new StandGl(branch, () -> this.services.apply(branch));
-        } catch (final EntryException exception) {
-            throw new DomainException("Failed to parse service from gitlab", exception);
-        }
+    /**
+     * Stand at head commit of it's branch.
+     * Services are read at head commit and remembered by it, so stand
+     * is read again only after it's branch moves.
+     * @param branch Of stand
+     * @return Stand
+     */
+    private Stand enriched(final BranchGl branch) {
+        return new StandGl(
+            branch.name(),
+            branch.commit(),
+            () -> this.heads.value(
+                branch.commit(),
+                () -> new ServicesMemo(this.services.apply(branch.commit()))
+            )
+        );
     }
 }
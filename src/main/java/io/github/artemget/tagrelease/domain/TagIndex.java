@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import io.github.artemget.tagrelease.entry.EFetchPages;
+import io.github.artemget.tagrelease.entry.EFetchRecs;
+import io.github.artemget.tagrelease.entry.EFunc;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Projection;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Tags of projects, sorted by version of prefix.
+ * Tags of project are fetched in full at first lookup, then only newest tags
+ * are fetched until already known one. As gitlab sorts tags by commit date,
+ * tag created later for old commit is not among newest ones, so tags are
+ * fetched in full again, when period passed since last full fetch.
+ *
+ * @since 0.1.0
+ */
+public final class TagIndex {
+    /**
+     * Tag fields used by index.
+     */
+    private static final Projection<TagRefGl> TAG = new Projection<>(
+        values -> new TagRefGl(values.get(0), values.get(1), values.get(2)),
+        "name", "commit.id", "commit.created_at"
+    );
+
+    /**
+     * Fetches all tags of project, newest first.
+     */
+    private final EFunc<String, Stream<TagRefGl>> all;
+
+    /**
+     * Fetches tags of project, newest first, till consumed.
+     */
+    private final EFunc<String, Stream<TagRefGl>> newest;
+
+    /**
+     * Time between full fetches of project tags, nanoseconds.
+     */
+    private final long period;
+
+    /**
+     * Tags by project id.
+     */
+    private final Map<String, Project> projects;
+
+    /**
+     * Ctor.
+     *
+     * @param http Transport
+     * @param etags Cached responses
+     * @param url Gitlab url
+     * @param token Gitlab token
+     */
+    public TagIndex(
+        final Http http,
+        final Etags etags,
+        final Entry<String> url,
+        final Entry<String> token
+    ) {
+        this(
+            TagIndex.tags(http, etags, url, token, true),
+            TagIndex.tags(http, etags, url, token, false),
+            Duration.ofMinutes(5)
+        );
+    }
+
+    /**
+     * Ctor.
+     * Tags are fetched in full every 5 minutes.
+     *
+     * @param newest Fetches tags of project, newest first
+     */
+    public TagIndex(final EFunc<String, Stream<TagRefGl>> newest) {
+        this(newest, Duration.ofMinutes(5));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param newest Fetches tags of project, newest first
+     * @param period Time between full fetches of project tags
+     */
+    public TagIndex(final EFunc<String, Stream<TagRefGl>> newest, final Duration period) {
+        this(newest, newest, period);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param all Fetches all tags of project, newest first
+     * @param newest Fetches tags of project, newest first, till consumed
+     * @param period Time between full fetches of project tags
+     */
+    public TagIndex(
+        final EFunc<String, Stream<TagRefGl>> all,
+        final EFunc<String, Stream<TagRefGl>> newest,
+        final Duration period
+    ) {
+        this.all = all;
+        this.newest = newest;
+        this.period = period.toNanos();
+        this.projects = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Latest tags of project with prefix, newest first.
+     *
+     * @param project Project id
+     * @param prefix Tag prefix, may end with '*'
+     * @param count Max count of tags
+     * @return Tags
+     * @throws EntryException If failed to fetch new tags
+     */
+    public List<TagRefGl> latest(final String project, final String prefix, final int count)
+        throws EntryException {
+        final Project tags = this.projects.computeIfAbsent(project, id -> new Project());
+        synchronized (tags) {
+            this.refreshed(project, tags);
+            return tags.latest(prefix.replace("*", ""), count);
+        }
+    }
+
+    /**
+     * Adds created tag of project.
+     *
+     * @param project Project id
+     * @param tag Created tag
+     */
+    public void add(final String project, final TagRefGl tag) {
+        final Project tags = this.projects.get(project);
+        if (tags != null) {
+            synchronized (tags) {
+                tags.add(tag);
+            }
+        }
+    }
+
+    private void refreshed(final String project, final Project tags) throws EntryException {
+        final long now = System.nanoTime();
+        final boolean full = tags.synced() == null || now - tags.synced() > this.period;
+        final EFunc<String, Stream<TagRefGl>> fetched;
+        if (full) {
+            fetched = this.all;
+        } else {
+            fetched = this.newest;
+        }
+        try (Stream<TagRefGl> stream = fetched.apply(project)) {
+            final Iterator<TagRefGl> iterator = stream.iterator();
+            if (full) {
+                final List<TagRefGl> all = new ArrayList<>();
+                iterator.forEachRemaining(all::add);
+                tags.replaced(all, now);
+            } else {
+                while (iterator.hasNext()) {
+                    final TagRefGl tag = iterator.next();
+                    if (tags.known(tag.name())) {
+                        break;
+                    }
+                    tags.add(tag);
+                }
+            }
+        } catch (final EntryExceptionUnchecked exception) {
+            throw new EntryException(
+                String.format("Failed to fetch tags of project:%s", project),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Fetches tags of project by pages, newest first.
+     * Incremental fetch usually stops at first page, so it does not request
+     * next page in advance.
+     *
+     * @param http Transport
+     * @param etags Cached responses
+     * @param url Gitlab url
+     * @param token Gitlab token
+     * @param ahead Whether next page is requested in advance
+     * @return Tags of project
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static EFunc<String, Stream<TagRefGl>> tags(
+        final Http http,
+        final Etags etags,
+        final Entry<String> url,
+        final Entry<String> token,
+        final boolean ahead
+    ) {
+        return project -> new EFetchPages<>(
+            http,
+            HttpRequest.newBuilder(
+                URI.create(
+                    String.format(
+                        "%s/api/v4/projects/%s/repository/tags?order_by=updated&sort=desc&per_page=50",
+                        url.value(),
+                        project
+                    )
+                )
+            ).GET()
+                .header("Accept", "application/json")
+                .header("PRIVATE-TOKEN", token.value())
+                .build(),
+            response -> new EFetchRecs<>(response::body, TagIndex.TAG).value(),
+            etags,
+            ahead
+        ).value();
+    }
+
+    /**
+     * Tags of project.
+     * Tags of prefix are sorted by version at first lookup of prefix,
+     * then kept sorted as tags are added.
+     *
+     * @since 0.1.0
+     */
+    private static final class Project {
+        /**
+         * Tags by name.
+         */
+        private final Map<String, TagRefGl> named;
+
+        /**
+         * Tags sorted by version, by literal text of prefix.
+         */
+        private final Map<String, NavigableMap<Key, TagRefGl>> prefixes;
+
+        /**
+         * Time of last full fetch, nanoseconds, null before first one.
+         */
+        private Long synced;
+
+        Project() {
+            this.named = new HashMap<>();
+            this.prefixes = new HashMap<>();
+        }
+
+        Long synced() {
+            return this.synced;
+        }
+
+        void replaced(final List<TagRefGl> tags, final long time) {
+            this.named.clear();
+            this.prefixes.clear();
+            for (final TagRefGl tag : tags) {
+                this.add(tag);
+            }
+            this.synced = time;
+        }
+
+        boolean known(final String name) {
+            return this.named.containsKey(name);
+        }
+
+        void add(final TagRefGl tag) {
+            if (this.named.putIfAbsent(tag.name(), tag) == null) {
+                for (final Map.Entry<String, NavigableMap<Key, TagRefGl>> sorted
+                    : this.prefixes.entrySet()) {
+                    if (tag.name().startsWith(sorted.getKey())) {
+                        sorted.getValue().put(Key.parsed(tag.name(), sorted.getKey()), tag);
+                    }
+                }
+            }
+        }
+
+        List<TagRefGl> latest(final String prefix, final int count) {
+            final NavigableMap<Key, TagRefGl> sorted = this.prefixes.computeIfAbsent(
+                prefix,
+                literal -> {
+                    final NavigableMap<Key, TagRefGl> tags = new TreeMap<>();
+                    for (final TagRefGl tag : this.named.values()) {
+                        if (tag.name().startsWith(literal)) {
+                            tags.put(Key.parsed(tag.name(), literal), tag);
+                        }
+                    }
+                    return tags;
+                }
+            );
+            final List<TagRefGl> latest = new ArrayList<>(count);
+            Map.Entry<Key, TagRefGl> floor = sorted.lastEntry();
+            while (floor != null && latest.size() < count) {
+                latest.add(floor.getValue());
+                floor = sorted.lowerEntry(floor.getKey());
+            }
+            return latest;
+        }
+    }
+
+    /**
+     * Tag name, parsed for sorting.
+     * Compares versions, then names.
+     *
+     * @param name Tag name
+     * @param version Version of tag
+     * @since 0.1.0
+     */
+    private record Key(String name, Version version) implements Comparable<Key> {
+        static Key parsed(final String name, final String prefix) {
+            return new Key(name, Version.parsed(name, prefix));
+        }
+
+        @Override
+        public int compareTo(final Key other) {
+            int compared = this.version.compareTo(other.version);
+            if (compared == 0) {
+                compared = this.name.compareTo(other.name);
+            }
+            return compared;
+        }
+    }
+}
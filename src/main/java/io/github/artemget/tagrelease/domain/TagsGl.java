@@ -24,123 +24,208 @@
 
 package io.github.artemget.tagrelease.domain;
 
-import com.jcabi.http.Request;
-import com.jcabi.http.request.JdkRequest;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
-import io.github.artemget.tagrelease.entry.EFetchArr;
-import io.github.artemget.tagrelease.entry.EFetchObj;
+import io.github.artemget.tagrelease.entry.EFetchRec;
+import io.github.artemget.tagrelease.entry.EFetchRecs;
 import io.github.artemget.tagrelease.entry.EFunc;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Projection;
 import io.github.artemget.tagrelease.exception.DomainException;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.net.http.HttpRequest;
 import java.nio.charset.StandardCharsets;
-import javax.json.JsonArray;
-import javax.json.JsonObject;
-import javax.json.JsonValue;
+import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class TagsGl implements Tags {
+    /**
+     * Tag fields used by tags.
+     */
+    private static final Projection<TagRefGl> TAG = new Projection<>(
+        values -> new TagRefGl(values.get(0), values.get(1), values.get(2)),
+        "name", "commit.id", "commit.created_at"
+    );
+
+    /**
+     * Commit fields used by branch check.
+     */
+    private static final Projection<String> COMMIT = new Projection<>(
+        values -> values.get(0),
+        "id"
+    );
+
+    /**
+     * Max count of latest tags checked to be reachable from branch.
+     */
+    private static final int CHECKED = 5;
+
+    /**
+     * Merge request fields used by changelog.
+     */
+    private static final Projection<MergeGl> MERGE = new Projection<>(
+        values -> new MergeGl(values.get(0), values.get(1), values.get(2), values.get(3)),
+        "title", "sha", "merge_commit_sha", "squash_commit_sha"
+    );
+
     private final Logger log = LoggerFactory.getLogger(TagsGl.class);
-    private final EFunc<Tag, JsonArray> tag;
-    private final EFunc<Tag, JsonObject> create;
+    private final TagIndex index;
+    private final EFunc<Tag, Boolean> reachable;
+    private final EFunc<Tag, TagRefGl> create;
     private final EFunc<Tag, String> message;
+    private final Journal journal;
+
+    public TagsGl(
+        final Http http,
+        final Entry<String> url,
+        final Entry<String> token
+    ) {
+        this(http, new Etags(), url, token);
+    }
+
+    public TagsGl(
+        final Http http,
+        final Etags etags,
+        final Entry<String> url,
+        final Entry<String> token
+    ) {
+        this(http, etags, new Journal.Fake(), url, token);
+    }
 
     public TagsGl(
+        final Http http,
+        final Etags etags,
+        final Journal journal,
         final Entry<String> url,
         final Entry<String> token
     ) {
         this(
+            new TagIndex(http, etags, url, token),
             (tag) ->
-                new EFetchArr(
-                    new JdkRequest(
-                        String.format(
-                            "%s/api/v4/projects/%s/repository/tags?order_by=version&search=%%5E%s",
-                            url.value(),
-                            tag.repo(),
-                            tag.name().replace(".*", "")
-                        )
-                    ).method(Request.GET)
-                        .header("Accept", "application/json")
-                        .header("PRIVATE-TOKEN", token.value())
-                ).value(),
+                tag.fromCommit().equals(
+                    new EFetchRec<>(
+                        http,
+                        HttpRequest.newBuilder(
+                            URI.create(
+                                String.format(
+                                    "%s/api/v4/projects/%s/repository/merge_base?refs%%5B%%5D=%s&refs%%5B%%5D=%s",
+                                    url.value(),
+                                    tag.repo(),
+                                    tag.fromCommit(),
+                                    URLEncoder.encode(tag.branch(), StandardCharsets.UTF_8)
+                                )
+                            )
+                        ).GET()
+                            .header("Accept", "application/json")
+                            .header("PRIVATE-TOKEN", token.value())
+                            .build(),
+                        TagsGl.COMMIT
+                    ).value()
+                ),
             (tag) ->
-                new EFetchObj(
-                    new JdkRequest(
-                        String.format(
-                            "%s/api/v4/projects/%s/repository/tags?ref=%s&tag_name=%s&message=%s",
-                            url.value(),
-                            tag.repo(),
-                            tag.branch(),
-                            tag.name(),
-                            tag.message()
+                new EFetchRec<>(
+                    http,
+                    HttpRequest.newBuilder(
+                        URI.create(
+                            String.format(
+                                "%s/api/v4/projects/%s/repository/tags?ref=%s&tag_name=%s&message=%s",
+                                url.value(),
+                                tag.repo(),
+                                tag.branch(),
+                                tag.name(),
+                                tag.message()
+                            )
                         )
-                    ).method(Request.POST)
+                    ).POST(HttpRequest.BodyPublishers.noBody())
                         .header("Accept", "application/json")
                         .header("PRIVATE-TOKEN", token.value())
+                        .build(),
+                    TagsGl.TAG
                 ).value(),
-            (tag) -> {
-                final StringBuilder message = new StringBuilder();
-                int page = 1;
-                boolean isFound = false;
-                while (page <= 5 && !isFound) {
-                    final JsonArray mrs = TagsGl.mrs(tag, url.value(), token.value(), String.valueOf(page));
-                    for (final JsonValue value : mrs) {
-                        final JsonObject mr = value.asJsonObject();
-                        final boolean isSquash = !mr.isNull("squash_commit_sha")
-                            && tag.fromCommit().equals(mr.getString("squash_commit_sha"));
-                        final boolean isMerge = !mr.isNull("merge_commit_sha")
-                            && tag.fromCommit().equals(mr.getString("merge_commit_sha"));
-                        final boolean isMr = !mr.isNull("sha")
-                            && tag.fromCommit().equals(mr.getString("sha"));
-                        if (isMerge || isSquash || isMr) {
-                            isFound = true;
-                            break;
-                        }
-                        final String trimmed;
-                        if (mr.getString("title").length() >= 30) {
-                            trimmed = mr.getString("title").substring(0, 30).concat("...");
-                        } else {
-                            trimmed = mr.getString("title");
+            new ChangelogGl(
+                http,
+                url,
+                token,
+                (tag) -> {
+                    final StringBuilder message = new StringBuilder();
+                    int page = 1;
+                    boolean isFound = false;
+                    while (page <= 5 && !isFound) {
+                        final List<MergeGl> mrs = TagsGl.mrs(
+                            http, tag, url.value(), token.value(), String.valueOf(page)
+                        );
+                        for (final MergeGl mr : mrs) {
+                            final boolean isSquash = tag.fromCommit().equals(mr.squash());
+                            final boolean isMerge = tag.fromCommit().equals(mr.merge());
+                            final boolean isMr = tag.fromCommit().equals(mr.sha());
+                            if (isMerge || isSquash || isMr) {
+                                isFound = true;
+                                break;
+                            }
+                            final String trimmed;
+                            if (mr.title().length() >= 30) {
+                                trimmed = mr.title().substring(0, 30).concat("...");
+                            } else {
+                                trimmed = mr.title();
+                            }
+                            message.append(trimmed).append("\n");
                         }
-                        message.append(trimmed).append("\n");
+                        page++;
                     }
-                    page++;
+                    return message.toString();
                 }
-                return message.toString();
-            }
+            ),
+            journal
         );
     }
 
     public TagsGl(
-        final EFunc<Tag, JsonArray> tag,
-        final EFunc<Tag, JsonObject> create,
-        EFunc<Tag, String> message
+        final TagIndex index,
+        final EFunc<Tag, Boolean> reachable,
+        final EFunc<Tag, TagRefGl> create,
+        EFunc<Tag, String> message,
+        final Journal journal
     ) {
-        this.tag = tag;
+        this.index = index;
+        this.reachable = reachable;
         this.create = create;
         this.message = message;
+        this.journal = journal;
     }
 
     @Override
     public Tag buildNew(final String serviceId, final String branch, final String prefix) throws
         DomainException {
         final Tag current = this.current(serviceId, branch, prefix);
+        final Optional<Journal.Intent> pending = this.journal.pending(serviceId, prefix);
+        if (pending.isPresent() && pending.get().next().equals(current.name())) {
+            log.warn(
+                "Tag:'{}' for service:'{}' was created without recorded outcome, reusing it",
+                current.name(),
+                serviceId
+            );
+            final TagRefGl created = new TagRefGl(current.name(), current.fromCommit(), current.created());
+            this.completed(pending.get().key(), created);
+            return new TagEa(serviceId, created.name(), branch, created.commit(), "", created.created());
+        }
         final String next = TagsGl.next(current.name(), prefix);
+        final Journal.Key key = new Journal.Key(serviceId, prefix, current.name());
+        this.journal.intended(key, next);
         String message;
         try {
-            message = URLEncoder.encode(
+            message = TagsGl.encoded(
                 String.format(
                     "Данное сообщение было сгенерировано автоматически.\nИзменения '%s' -> '%s':\n%s",
                     current.name(),
                     next,
                     this.message.apply(current)
                 ),
-                StandardCharsets.UTF_8
+                5000
             );
-            if (message.length() > 5000) {
-                message = message.substring(0, 4996).concat("\n...");
-            }
         } catch (final EntryException exception) {
             message = "";
             log.error(
@@ -152,7 +237,7 @@ public final class TagsGl implements Tags {
                 exception
             );
         }
-        final JsonObject created;
+        final TagRefGl created;
         try {
             created = this.create.apply(
                 new TagEa(
@@ -173,89 +258,161 @@ public final class TagsGl implements Tags {
                 exception
             );
         }
-        final JsonObject commit = created.getJsonObject("commit");
+        this.index.add(serviceId, created);
+        this.completed(key, created);
         return new TagEa(
             serviceId,
-            created.getString("name"),
+            created.name(),
             branch,
-            commit.getString("id"),
+            created.commit(),
             message,
-            commit.getString("created_at")
+            created.created()
         );
     }
 
     @Override
     public Tag current(final String serviceId, final String branch, final String prefix) throws
         DomainException {
-        final JsonArray response;
+        final List<TagRefGl> latest;
         try {
-            response = this.tag.apply(new TagEa(serviceId, prefix, branch, "", "", ""));
+            latest = this.index.latest(serviceId, prefix, TagsGl.CHECKED);
         } catch (final EntryException exception) {
             throw new DomainException(
                 String.format("Failed to fetch tag with prefix:'%s' for service:'%s'", prefix, serviceId),
                 exception
             );
         }
-        //TODO: add branch check
-        if (response.isEmpty()) {
+        if (latest.isEmpty()) {
             throw new DomainException(
                 String.format("Failed to find tag with prefix:'%s' for service:'%s'", prefix, serviceId)
             );
         }
-        final JsonObject current = response.getJsonObject(0);
-        final JsonObject commit = current.getJsonObject("commit");
-        return new TagEa(
-            serviceId,
-            current.getString("name"),
-            branch,
-            commit.getString("id"),
-            commit.getString("message"),
-            commit.getString("created_at")
+        for (final TagRefGl candidate : latest) {
+            final Tag current = new TagEa(
+                serviceId,
+                candidate.name(),
+                branch,
+                candidate.commit(),
+                "",
+                candidate.created()
+            );
+            try {
+                if (this.reachable.apply(current)) {
+                    return current;
+                }
+            } catch (final EntryException exception) {
+                throw new DomainException(
+                    String.format(
+                        "Failed to check tag:'%s' for service:'%s' is reachable from branch:'%s'",
+                        candidate.name(), serviceId, branch
+                    ),
+                    exception
+                );
+            }
+            log.warn(
+                "Tag:'{}' for service:'{}' is not reachable from branch:'{}'",
+                candidate.name(), serviceId, branch
+            );
+        }
+        throw new DomainException(
+            String.format(
+                "Failed to find tag with prefix:'%s' for service:'%s' reachable from branch:'%s'",
+                prefix, serviceId, branch
+            )
         );
     }
 
-    public static String next(final String current, final String prefix) {
-        final String trimmed = prefix.replace("*", "");
-        final StringBuilder next = new StringBuilder();
-        final int length = current.toCharArray().length;
-        for (int index = 0; index < length; index++) {
-            if (trimmed.length() == index) {
-                final StringBuilder digit = new StringBuilder();
-                while (index < length && Character.isDigit(current.charAt(index))) {
-                    digit.append(current.charAt(index));
-                    index++;
-                }
-                next.append(Integer.parseInt(digit.toString()) + 1);
-                if (index < length) {
-                    next.append(current.charAt(index));
+    /**
+     * Records outcome of tag creation. Tag is already created,
+     * so failure is only logged.
+     *
+     * @param key Tag creation key
+     * @param created Created tag
+     */
+    private void completed(final Journal.Key key, final TagRefGl created) {
+        try {
+            this.journal.completed(key, created);
+        } catch (final DomainException exception) {
+            log.error(
+                "Failed to record created tag:'{}' for service:'{}'",
+                created.name(),
+                key.project(),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Url encoded text, cut to fit limit.
+     * Text is cut by whole characters before encoding, so escapes are never
+     * split, and cut text ends with '\n...'.
+     *
+     * @param text Text
+     * @param limit Max length of encoded text
+     * @return Encoded text
+     */
+    static String encoded(final String text, final int limit) {
+        final String encoded = URLEncoder.encode(text, StandardCharsets.UTF_8);
+        final String cut;
+        if (encoded.length() <= limit) {
+            cut = encoded;
+        } else {
+            final String marker = URLEncoder.encode("\n...", StandardCharsets.UTF_8);
+            final StringBuilder shorter = new StringBuilder(limit);
+            int index = 0;
+            while (index < text.length()) {
+                final int next = text.offsetByCodePoints(index, 1);
+                final String character = URLEncoder.encode(
+                    text.substring(index, next), StandardCharsets.UTF_8
+                );
+                if (shorter.length() + character.length() + marker.length() > limit) {
+                    break;
                 }
-                continue;
-            }
-            if (trimmed.length() < index && Character.isDigit(current.charAt(index))) {
-                next.append('0');
-            } else {
-                next.append(current.charAt(index));
+                shorter.append(character);
+                index = next;
             }
+            cut = shorter.append(marker).toString();
         }
-        return next.toString();
+        return cut;
     }
 
-    private static JsonArray mrs(final Tag tag, String url, final String token, final String page)
-        throws EntryException {
-        return new EFetchArr(
-            new JdkRequest(
-                String.format(
-                    "%s/api/v4/projects/%s/merge_requests?state=merged&scope=all&created_after=%s&target_branch=%s&per_page=%s&page=%s",
-                    url,
-                    tag.repo(),
-                    tag.created(),
-                    tag.branch(),
-                    "20",
-                    page
+    /**
+     * Next tag name, with number of version after prefix incremented.
+     *
+     * @param current Current tag name
+     * @param prefix Tag prefix, may end with '*'
+     * @return Next tag name
+     */
+    public static String next(final String current, final String prefix) {
+        return Version.parsed(current, prefix).bumped(Version.fixed(prefix)).toString();
+    }
+
+    private static List<MergeGl> mrs(
+        final Http http,
+        final Tag tag,
+        final String url,
+        final String token,
+        final String page
+    ) throws EntryException {
+        return new EFetchRecs<>(
+            http,
+            HttpRequest.newBuilder(
+                URI.create(
+                    String.format(
+                        "%s/api/v4/projects/%s/merge_requests?state=merged&scope=all&created_after=%s&target_branch=%s&per_page=%s&page=%s",
+                        url,
+                        tag.repo(),
+                        tag.created(),
+                        tag.branch(),
+                        "20",
+                        page
+                    )
                 )
-            ).method(Request.GET)
+            ).GET()
                 .header("Accept", "application/json")
                 .header("PRIVATE-TOKEN", token)
+                .build(),
+            TagsGl.MERGE
         ).value();
     }
 }
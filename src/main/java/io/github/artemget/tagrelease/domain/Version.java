@@ -0,0 +1,320 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import java.util.Arrays;
+
+/**
+ * Version of tag.
+ * Tag name is parsed once to text before version, numbers of version
+ * separated by dots and text after version, like 'v' [4, 3, 1] '_hotfix'.
+ * Version starts after literal text of tag prefix, so digits of prefix like
+ * 'app2-' are not read as version. Numbers are printed with their original
+ * width, like '2024.01'. Versions are ordered by text before version,
+ * numbers, text after version, then width of numbers. Version without text
+ * after it is ordered after the same version with text, so '1.2.5' is newer
+ * than '1.2.5-rc1'.
+ *
+ * @since 0.1.0
+ */
+public final class Version implements Comparable<Version> {
+    /**
+     * Max count of digits in number of version.
+     */
+    private static final int DIGITS = 18;
+
+    /**
+     * Text before version.
+     */
+    private final String prefix;
+
+    /**
+     * Numbers of version.
+     */
+    private final long[] components;
+
+    /**
+     * Count of digits of each number, with leading zeros.
+     */
+    private final int[] widths;
+
+    /**
+     * Text after version.
+     */
+    private final String suffix;
+
+    /**
+     * Ctor.
+     * Numbers are printed without leading zeros.
+     *
+     * @param prefix Text before version
+     * @param components Numbers of version
+     * @param suffix Text after version
+     */
+    public Version(final String prefix, final long[] components, final String suffix) {
+        this(prefix, components, Version.minimal(components.length), suffix);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param prefix Text before version
+     * @param components Numbers of version
+     * @param widths Count of digits of each number, with leading zeros
+     * @param suffix Text after version
+     */
+    public Version(
+        final String prefix,
+        final long[] components,
+        final int[] widths,
+        final String suffix
+    ) {
+        this.prefix = prefix;
+        this.components = components;
+        this.widths = widths;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Parses version from tag name, starting at first digit.
+     *
+     * @param name Tag name
+     * @return Version
+     */
+    public static Version parsed(final String name) {
+        return Version.parsed(name, "");
+    }
+
+    /**
+     * Parses version from tag name of prefix.
+     * Version starts at numbers, which literal text of prefix ends with,
+     * otherwise at first digit after literal text of prefix.
+     * Number longer than 18 digits is treated as text after version.
+     *
+     * @param name Tag name
+     * @param prefix Tag prefix, may end with '*'
+     * @return Version
+     */
+    public static Version parsed(final String name, final String prefix) {
+        final String literal = prefix.replace("*", "");
+        final int length = name.length();
+        int index = 0;
+        if (name.startsWith(literal)) {
+            index = literal.length();
+            while (index > 0
+                && (Version.digit(literal.charAt(index - 1)) || literal.charAt(index - 1) == '.')) {
+                --index;
+            }
+            while (index < literal.length() && literal.charAt(index) == '.') {
+                ++index;
+            }
+        }
+        while (index < length && !Version.digit(name.charAt(index))) {
+            ++index;
+        }
+        final int head = index;
+        long[] components = new long[4];
+        int[] widths = new int[4];
+        int count = 0;
+        int end = index;
+        while (index < length && Version.digit(name.charAt(index))) {
+            final int start = index;
+            long number = 0;
+            while (index < length && Version.digit(name.charAt(index))) {
+                number = number * 10 + name.charAt(index) - '0';
+                ++index;
+            }
+            if (index - start > Version.DIGITS) {
+                break;
+            }
+            if (count == components.length) {
+                components = Arrays.copyOf(components, count * 2);
+                widths = Arrays.copyOf(widths, count * 2);
+            }
+            components[count] = number;
+            widths[count] = index - start;
+            ++count;
+            end = index;
+            if (index < length && name.charAt(index) == '.') {
+                ++index;
+            }
+        }
+        return new Version(
+            name.substring(0, head),
+            Arrays.copyOf(components, count),
+            Arrays.copyOf(widths, count),
+            name.substring(end)
+        );
+    }
+
+    /**
+     * Count of version numbers, fixed by tag prefix.
+     * Next tag of prefix has number at this position incremented. Number,
+     * which prefix ends with without dot, is not fixed, so next tag of
+     * prefix '1.2.1*' after '1.2.10' is '1.2.11'.
+     *
+     * @param prefix Tag prefix, may end with '*'
+     * @return Count
+     */
+    public static int fixed(final String prefix) {
+        final String literal = prefix.replace("*", "");
+        int fixed = Version.parsed(literal, prefix).components();
+        if (fixed > 0 && Version.digit(literal.charAt(literal.length() - 1))) {
+            --fixed;
+        }
+        return fixed;
+    }
+
+    /**
+     * Text before version.
+     *
+     * @return Text
+     */
+    public String prefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Count of numbers of version.
+     *
+     * @return Count
+     */
+    public int components() {
+        return this.components.length;
+    }
+
+    /**
+     * Number of version.
+     *
+     * @param index Position of number
+     * @return Number
+     */
+    public long component(final int index) {
+        return this.components[index];
+    }
+
+    /**
+     * Printed width of number of version.
+     *
+     * @param index Position of number
+     * @return Count of digits, with leading zeros
+     */
+    public int width(final int index) {
+        return this.widths[index];
+    }
+
+    /**
+     * Text after version.
+     *
+     * @return Text
+     */
+    public String suffix() {
+        return this.suffix;
+    }
+
+    /**
+     * Next version, with number at position incremented and next numbers reset.
+     * Numbers keep their width. Missing numbers till position are added as zeros.
+     * Digits of text after version are reset too, so '1.2.5-rc1' is bumped
+     * to '1.2.6-rc0'.
+     *
+     * @param index Position of number
+     * @return Version
+     */
+    public Version bumped(final int index) {
+        final int length = Math.max(index + 1, this.components.length);
+        final long[] bumped = new long[length];
+        final int[] widths = Version.minimal(length);
+        System.arraycopy(this.widths, 0, widths, 0, this.widths.length);
+        System.arraycopy(this.components, 0, bumped, 0, Math.min(index, this.components.length));
+        if (index < this.components.length) {
+            bumped[index] = Math.incrementExact(this.components[index]);
+        } else {
+            bumped[index] = 1;
+        }
+        widths[index] = Math.max(widths[index], Long.toString(bumped[index]).length());
+        return new Version(this.prefix, bumped, widths, this.suffix.replaceAll("[0-9]", "0"));
+    }
+
+    @Override
+    public int compareTo(final Version other) {
+        int compared = this.prefix.compareTo(other.prefix);
+        if (compared == 0) {
+            compared = Arrays.compare(this.components, other.components);
+        }
+        if (compared == 0 && this.suffix.isEmpty() != other.suffix.isEmpty()) {
+            compared = Boolean.compare(this.suffix.isEmpty(), other.suffix.isEmpty());
+        } else if (compared == 0) {
+            compared = this.suffix.compareTo(other.suffix);
+        }
+        if (compared == 0) {
+            compared = Arrays.compare(this.widths, other.widths);
+        }
+        return compared;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof Version
+            && this.prefix.equals(((Version) other).prefix)
+            && Arrays.equals(this.components, ((Version) other).components)
+            && Arrays.equals(this.widths, ((Version) other).widths)
+            && this.suffix.equals(((Version) other).suffix);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * this.prefix.hashCode() + Arrays.hashCode(this.components))
+            + Arrays.hashCode(this.widths)) + this.suffix.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder string = new StringBuilder(
+            this.prefix.length() + this.components.length * 4 + this.suffix.length()
+        ).append(this.prefix);
+        for (int index = 0; index < this.components.length; ++index) {
+            if (index > 0) {
+                string.append('.');
+            }
+            final String number = Long.toString(this.components[index]);
+            for (int zeros = this.widths[index] - number.length(); zeros > 0; --zeros) {
+                string.append('0');
+            }
+            string.append(number);
+        }
+        return string.append(this.suffix).toString();
+    }
+
+    private static int[] minimal(final int count) {
+        final int[] widths = new int[count];
+        Arrays.fill(widths, 1);
+        return widths;
+    }
+
+    private static boolean digit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -27,6 +27,8 @@ package io.github.artemget.tagrelease.entry;
 import com.jcabi.http.Request;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.http.HttpRequest;
 import javax.json.JsonArray;
 import javax.json.JsonStructure;
 
@@ -37,6 +39,10 @@ public class EFetchArr implements Entry<JsonArray> {
         this(new EFetchJson(request));
     }
 
+    public EFetchArr(final Http http, final HttpRequest request) {
+        this(new EFetchJson(http, request));
+    }
+
     public EFetchArr(final Entry<JsonStructure> origin) {
         this.origin = origin;
     }
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Fetches resource without blocking caller.
+ * Response is parsed at separate thread, when headers are received.
+ *
+ * @param <T> Parsed type
+ * @since 0.1.0
+ */
+public final class EFetchAsync<T> implements EAsync<T> {
+    /**
+     * Transport.
+     */
+    private final Http http;
+
+    /**
+     * Request.
+     */
+    private final HttpRequest request;
+
+    /**
+     * Parses and closes successful response body.
+     */
+    private final EFunc<InputStream, T> parsed;
+
+    /**
+     * Runs parsing.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * Response is parsed at virtual thread.
+     *
+     * @param http Transport
+     * @param request Request
+     * @param parsed Parses successful response body
+     */
+    public EFetchAsync(final Http http, final HttpRequest request, final EFunc<InputStream, T> parsed) {
+        this(http, request, parsed, runnable -> Thread.ofVirtual().start(runnable));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param http Transport
+     * @param request Request
+     * @param parsed Parses successful response body
+     * @param executor Runs parsing
+     */
+    public EFetchAsync(
+        final Http http,
+        final HttpRequest request,
+        final EFunc<InputStream, T> parsed,
+        final Executor executor
+    ) {
+        this.http = http;
+        this.request = request;
+        this.parsed = parsed;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<T> value() {
+        return this.http.sendAsync(this.request).thenApplyAsync(
+            response -> {
+                try {
+                    return this.parsed.apply(new EFetchBody(() -> response).value());
+                } catch (final EntryException exception) {
+                    throw new CompletionException(exception);
+                }
+            },
+            this.executor
+        );
+    }
+}
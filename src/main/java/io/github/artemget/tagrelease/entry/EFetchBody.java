@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Fetches response body as not consumed stream.
+ * Fails at not successful response status. Caller is responsible to close stream.
+ *
+ * @since 0.1.0
+ */
+public final class EFetchBody implements Entry<InputStream> {
+    /**
+     * Response.
+     */
+    private final Entry<HttpResponse<InputStream>> response;
+
+    /**
+     * Ctor.
+     *
+     * @param http Transport
+     * @param request Request
+     */
+    public EFetchBody(final Http http, final HttpRequest request) {
+        this(
+            () -> {
+                try {
+                    return http.send(request);
+                } catch (final IOException exception) {
+                    throw new EntryException(
+                        String.format("Failed to fetch resource:%s", request.uri()),
+                        exception
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param response Response
+     */
+    public EFetchBody(final Entry<HttpResponse<InputStream>> response) {
+        this.response = response;
+    }
+
+    @Override
+    public InputStream value() throws EntryException {
+        final HttpResponse<InputStream> fetched = this.response.value();
+        if (fetched.statusCode() >= 300) {
+            try {
+                fetched.body().close();
+            } catch (final IOException ignored) {
+                // response is failed anyway
+            }
+            throw new EntryException(
+                String.format(
+                    "Failed to fetch resource:%s, status:%s",
+                    fetched.uri(),
+                    fetched.statusCode()
+                )
+            );
+        }
+        return fetched.body();
+    }
+}
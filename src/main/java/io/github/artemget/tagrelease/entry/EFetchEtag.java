@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+
+/**
+ * Fetches resource with conditional request.
+ * Sends etag of cached response, at 304 status returns cached value without
+ * reading and parsing response again.
+ *
+ * @param <T> Parsed type
+ * @since 0.1.0
+ */
+public final class EFetchEtag<T> implements Entry<T> {
+    /**
+     * Transport.
+     */
+    private final Http http;
+
+    /**
+     * Request.
+     */
+    private final HttpRequest request;
+
+    /**
+     * Parses response.
+     */
+    private final EFunc<HttpResponse<InputStream>, T> parsed;
+
+    /**
+     * Cached responses.
+     */
+    private final Etags etags;
+
+    /**
+     * Main ctor.
+     *
+     * @param http Transport
+     * @param request Request
+     * @param parsed Parses response
+     * @param etags Cached responses
+     */
+    public EFetchEtag(
+        final Http http,
+        final HttpRequest request,
+        final EFunc<HttpResponse<InputStream>, T> parsed,
+        final Etags etags
+    ) {
+        this.http = http;
+        this.request = request;
+        this.parsed = parsed;
+        this.etags = etags;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value() throws EntryException {
+        final String key = new RequestKey(this.request).asString();
+        final Optional<Etags.Tagged> cached = this.etags.tagged(key);
+        final HttpRequest.Builder conditional = HttpRequest.newBuilder(this.request, (name, value) -> true);
+        cached.ifPresent(tagged -> conditional.header("If-None-Match", tagged.etag()));
+        final HttpResponse<InputStream> response;
+        try {
+            response = this.http.send(conditional.build());
+        } catch (final IOException exception) {
+            throw new EntryException(
+                String.format("Failed to fetch resource:%s", this.request.uri()),
+                exception
+            );
+        }
+        final T value;
+        if (response.statusCode() == 304 && cached.isPresent()) {
+            EFetchEtag.closed(response);
+            this.etags.hit();
+            value = (T) cached.get().value();
+        } else if (response.statusCode() >= 300) {
+            EFetchEtag.closed(response);
+            throw new EntryException(
+                String.format(
+                    "Failed to fetch resource:%s, status:%s",
+                    this.request.uri(),
+                    response.statusCode()
+                )
+            );
+        } else {
+            this.etags.miss();
+            value = this.parsed.apply(response);
+            final Optional<String> etag = response.headers().firstValue("ETag");
+            if (etag.isPresent()) {
+                this.etags.put(key, etag.get(), value);
+            }
+        }
+        return value;
+    }
+
+    private static void closed(final HttpResponse<InputStream> response) {
+        try {
+            response.body().close();
+        } catch (final IOException ignored) {
+            // body is not used
+        }
+    }
+}
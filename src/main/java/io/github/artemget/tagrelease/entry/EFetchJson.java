@@ -27,27 +27,60 @@ package io.github.artemget.tagrelease.entry;
 import com.jcabi.http.Request;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
 import javax.json.Json;
+import javax.json.JsonException;
 import javax.json.JsonStructure;
+import javax.json.stream.JsonParser;
 
+/**
+ * Fetches json structure.
+ * Body stream is decoded by parser while it downloads, without buffering it as text.
+ *
+ * @since 0.1.0
+ */
 public class EFetchJson implements Entry<JsonStructure> {
-    private final Request request;
+    private final Entry<InputStream> body;
 
     public EFetchJson(final Request request) {
-        this.request = request;
+        this(
+            () -> {
+                try {
+                    return new ByteArrayInputStream(request.fetch().binary());
+                } catch (final IOException exception) {
+                    throw new EntryException(
+                        String.format("Failed to fetch json array from resource:%s", request.uri()),
+                        exception
+                    );
+                }
+            }
+        );
+    }
+
+    public EFetchJson(final Http http, final HttpRequest request) {
+        this(new EFetchBody(http, request));
+    }
+
+    public EFetchJson(final Entry<InputStream> body) {
+        this.body = body;
     }
 
     @Override
     public JsonStructure value() throws EntryException {
-        try {
-            return Json.createReader(new StringReader(request.fetch().body())).read();
-        } catch (final IOException exception) {
-            throw new EntryException(
-                String.format("Failed to fetch json array from resource:%s", this.request.uri()),
-                exception
-            );
+        try (InputStream stream = this.body.value(); JsonParser parser = Json.createParser(stream)) {
+            final JsonParser.Event event = parser.next();
+            if (event != JsonParser.Event.START_ARRAY && event != JsonParser.Event.START_OBJECT) {
+                throw new EntryException(
+                    String.format("Failed to parse json structure, starts with:%s", event)
+                );
+            }
+            return (JsonStructure) parser.getValue();
+        } catch (final IOException | JsonException exception) {
+            throw new EntryException("Failed to parse json structure", exception);
         }
     }
 }
@@ -27,6 +27,8 @@ package io.github.artemget.tagrelease.entry;
 import com.jcabi.http.Request;
 import io.github.artemget.entrys.Entry;
 import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.net.http.HttpRequest;
 import javax.json.JsonObject;
 import javax.json.JsonStructure;
 
@@ -37,6 +39,10 @@ public class EFetchObj implements Entry<JsonObject> {
         this(new EFetchJson(request));
     }
 
+    public EFetchObj(final Http http, final HttpRequest request) {
+        this(new EFetchJson(http, request));
+    }
+
     public EFetchObj(final Entry<JsonStructure> origin) {
         this.origin = origin;
     }
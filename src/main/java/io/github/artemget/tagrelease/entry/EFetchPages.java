@@ -0,0 +1,353 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fetches all pages of paginated resource as lazy stream of elements.
+ * Follows next link from Link header, which covers offset and keyset pagination,
+ * or X-Next-Page header. Next page is requested in background as soon as
+ * previous page is taken, so it downloads while previous one is consumed.
+ * Consumers reading only head of resource disable it, then next page is
+ * requested only when previous one is consumed.
+ * First page fails with {@link EntryException}, next pages fail with
+ * {@link EntryExceptionUnchecked} while stream is consumed.
+ * Closing the stream drops next page. Its request is not started if it is
+ * still queued, but request already sent can not be aborted: it completes
+ * at background and its page is discarded. So at most one page is fetched
+ * in vain, consumers must not rely on close to cut traffic.
+ *
+ * @param <T> Element type
+ * @since 0.1.0
+ */
+public final class EFetchPages<T> implements Entry<Stream<T>> {
+    /**
+     * Transport.
+     */
+    private final Http http;
+
+    /**
+     * First page request.
+     */
+    private final HttpRequest first;
+
+    /**
+     * Parses page elements from response.
+     */
+    private final EFunc<HttpResponse<InputStream>, List<T>> parsed;
+
+    /**
+     * Cached pages.
+     */
+    private final Etags etags;
+
+    /**
+     * Whether next page is requested in advance.
+     */
+    private final boolean ahead;
+
+    /**
+     * Runs next page requests.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * Pages are not cached.
+     *
+     * @param http Transport
+     * @param first First page request
+     * @param parsed Parses page elements from response
+     */
+    public EFetchPages(
+        final Http http,
+        final HttpRequest first,
+        final EFunc<HttpResponse<InputStream>, List<T>> parsed
+    ) {
+        this(http, first, parsed, new Etags(0));
+    }
+
+    /**
+     * Ctor.
+     * Next page is requested in advance.
+     *
+     * @param http Transport
+     * @param first First page request
+     * @param parsed Parses page elements from response
+     * @param etags Cached pages
+     */
+    public EFetchPages(
+        final Http http,
+        final HttpRequest first,
+        final EFunc<HttpResponse<InputStream>, List<T>> parsed,
+        final Etags etags
+    ) {
+        this(http, first, parsed, etags, true);
+    }
+
+    /**
+     * Ctor.
+     * Next pages are requested at virtual threads.
+     *
+     * @param http Transport
+     * @param first First page request
+     * @param parsed Parses page elements from response
+     * @param etags Cached pages
+     * @param ahead Whether next page is requested in advance
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public EFetchPages(
+        final Http http,
+        final HttpRequest first,
+        final EFunc<HttpResponse<InputStream>, List<T>> parsed,
+        final Etags etags,
+        final boolean ahead
+    ) {
+        this(http, first, parsed, etags, ahead, runnable -> Thread.ofVirtual().start(runnable));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param http Transport
+     * @param first First page request
+     * @param parsed Parses page elements from response
+     * @param etags Cached pages
+     * @param ahead Whether next page is requested in advance
+     * @param executor Runs next page requests
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public EFetchPages(
+        final Http http,
+        final HttpRequest first,
+        final EFunc<HttpResponse<InputStream>, List<T>> parsed,
+        final Etags etags,
+        final boolean ahead,
+        final Executor executor
+    ) {
+        this.http = http;
+        this.first = first;
+        this.parsed = parsed;
+        this.etags = etags;
+        this.ahead = ahead;
+        this.executor = executor;
+    }
+
+    @Override
+    public Stream<T> value() throws EntryException {
+        final Pages pages = new Pages(this.page(this.first));
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        ).onClose(pages::close);
+    }
+
+    private Page<T> page(final HttpRequest request) throws EntryException {
+        return new EFetchEtag<>(
+            this.http,
+            request,
+            response -> new Page<>(
+                this.parsed.apply(response),
+                EFetchPages.next(request.uri(), response).orElse(null)
+            ),
+            this.etags
+        ).value();
+    }
+
+    private CompletableFuture<Page<T>> async(final URI next) {
+        final HttpRequest request = HttpRequest.newBuilder(this.first, (name, value) -> true)
+            .uri(next)
+            .build();
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return this.page(request);
+                } catch (final EntryException exception) {
+                    throw new EntryExceptionUnchecked(exception);
+                }
+            },
+            this.executor
+        );
+    }
+
+    /**
+     * Next page location, resolved against current page host,
+     * so token is never sent to other host.
+     *
+     * @param current Page location
+     * @param response Page response
+     * @return Next page location, empty at last page
+     */
+    private static Optional<URI> next(final URI current, final HttpResponse<?> response) {
+        Optional<URI> next = Optional.empty();
+        for (final String header : response.headers().allValues("Link")) {
+            for (final String link : header.split(",")) {
+                final int end = link.indexOf('>');
+                if (end > 0 && link.substring(end).matches(".*rel=\"?next\"?.*")) {
+                    final URI uri = URI.create(link.substring(link.indexOf('<') + 1, end).trim());
+                    next = Optional.of(EFetchPages.located(current, uri.getRawPath(), uri.getRawQuery()));
+                }
+            }
+        }
+        final Optional<String> page = response.headers().firstValue("X-Next-Page")
+            .filter(value -> !value.isBlank());
+        if (next.isEmpty() && page.isPresent()) {
+            final String query = Optional.ofNullable(current.getRawQuery()).orElse("")
+                .replaceAll("(^|&)page=[^&]*", "")
+                .replaceFirst("^&", "");
+            final String numbered;
+            if (query.isEmpty()) {
+                numbered = String.format("page=%s", page.get().trim());
+            } else {
+                numbered = String.format("%s&page=%s", query, page.get().trim());
+            }
+            next = Optional.of(EFetchPages.located(current, current.getRawPath(), numbered));
+        }
+        return next;
+    }
+
+    private static URI located(final URI current, final String path, final String query) {
+        final String location;
+        if (query == null) {
+            location = String.format("%s://%s%s", current.getScheme(), current.getRawAuthority(), path);
+        } else {
+            location = String.format(
+                "%s://%s%s?%s", current.getScheme(), current.getRawAuthority(), path, query
+            );
+        }
+        return URI.create(location);
+    }
+
+    /**
+     * Page of elements.
+     *
+     * @param items Elements
+     * @param next Next page location, nullable
+     * @param <T> Element type
+     * @since 0.1.0
+     */
+    private record Page<T>(List<T> items, URI next) {
+    }
+
+    /**
+     * Elements of all pages, with next page requested in advance if enabled.
+     *
+     * @since 0.1.0
+     */
+    private final class Pages implements Iterator<T> {
+        /**
+         * Elements of current page.
+         */
+        private Iterator<T> current;
+
+        /**
+         * Next page location, not requested yet, null if requested or at last page.
+         */
+        private URI upcoming;
+
+        /**
+         * Requested next page, null if not requested.
+         */
+        private CompletableFuture<Page<T>> pending;
+
+        Pages(final Page<T> first) {
+            this.current = first.items().iterator();
+            this.upcoming = first.next();
+            if (EFetchPages.this.ahead) {
+                this.requested();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.current.hasNext() && (this.pending != null || this.upcoming != null)) {
+                this.requested();
+                final Page<T> page;
+                try {
+                    page = this.pending.join();
+                } catch (final CompletionException exception) {
+                    this.pending = null;
+                    if (exception.getCause() instanceof EntryExceptionUnchecked) {
+                        throw (EntryExceptionUnchecked) exception.getCause();
+                    }
+                    throw exception;
+                }
+                this.pending = null;
+                this.upcoming = page.next();
+                this.current = page.items().iterator();
+                if (EFetchPages.this.ahead) {
+                    this.requested();
+                }
+            }
+            return this.current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more elements at pages");
+            }
+            return this.current.next();
+        }
+
+        /**
+         * Drops next page.
+         * Cancelled future does not interrupt request already sent.
+         */
+        void close() {
+            this.upcoming = null;
+            if (this.pending != null) {
+                this.pending.cancel(true);
+                this.pending = null;
+            }
+        }
+
+        private void requested() {
+            if (this.pending == null && this.upcoming != null) {
+                this.pending = EFetchPages.this.async(this.upcoming);
+                this.upcoming = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.stream.JsonParser;
+
+/**
+ * Fetches json object projected to record.
+ *
+ * @param <T> Record type
+ * @since 0.1.0
+ */
+public final class EFetchRec<T> implements Entry<T> {
+    /**
+     * Response body.
+     */
+    private final Entry<InputStream> body;
+
+    /**
+     * Projection of object.
+     */
+    private final Projection<T> projection;
+
+    /**
+     * Ctor.
+     *
+     * @param http Transport
+     * @param request Request
+     * @param projection Projection of object
+     */
+    public EFetchRec(final Http http, final HttpRequest request, final Projection<T> projection) {
+        this(new EFetchBody(http, request), projection);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param body Response body
+     * @param projection Projection of object
+     */
+    public EFetchRec(final Entry<InputStream> body, final Projection<T> projection) {
+        this.body = body;
+        this.projection = projection;
+    }
+
+    @Override
+    public T value() throws EntryException {
+        try (InputStream stream = this.body.value(); JsonParser parser = Json.createParser(stream)) {
+            if (parser.next() != JsonParser.Event.START_OBJECT) {
+                throw new EntryException("Failed to map json structure to record");
+            }
+            return this.projection.projected(parser);
+        } catch (final IOException | JsonException exception) {
+            throw new EntryException("Failed to parse json record", exception);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.stream.JsonParser;
+
+/**
+ * Fetches json array of objects at top level field of object, projected to records.
+ * Other fields of object are skipped without reading to tree.
+ *
+ * @param <T> Record type
+ * @since 0.1.0
+ */
+public final class EFetchRecsAt<T> implements Entry<List<T>> {
+    /**
+     * Response body.
+     */
+    private final Entry<InputStream> body;
+
+    /**
+     * Field of array.
+     */
+    private final String field;
+
+    /**
+     * Projection of each object.
+     */
+    private final Projection<T> projection;
+
+    /**
+     * Ctor.
+     *
+     * @param http Transport
+     * @param request Request
+     * @param field Field of array
+     * @param projection Projection of each object
+     */
+    public EFetchRecsAt(
+        final Http http,
+        final HttpRequest request,
+        final String field,
+        final Projection<T> projection
+    ) {
+        this(new EFetchBody(http, request), field, projection);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param body Response body
+     * @param field Field of array
+     * @param projection Projection of each object
+     */
+    public EFetchRecsAt(
+        final Entry<InputStream> body,
+        final String field,
+        final Projection<T> projection
+    ) {
+        this.body = body;
+        this.field = field;
+        this.projection = projection;
+    }
+
+    @Override
+    public List<T> value() throws EntryException {
+        try (InputStream stream = this.body.value(); JsonParser parser = Json.createParser(stream)) {
+            if (parser.next() != JsonParser.Event.START_OBJECT) {
+                throw new EntryException("Failed to map json structure to object");
+            }
+            JsonParser.Event event = parser.next();
+            while (event != JsonParser.Event.END_OBJECT) {
+                final boolean found = this.field.equals(parser.getString());
+                event = parser.next();
+                if (found && event == JsonParser.Event.START_ARRAY) {
+                    return this.records(parser);
+                }
+                if (event == JsonParser.Event.START_OBJECT) {
+                    parser.skipObject();
+                } else if (event == JsonParser.Event.START_ARRAY) {
+                    parser.skipArray();
+                }
+                event = parser.next();
+            }
+            throw new EntryException(
+                String.format("Field:'%s' with array is absent at json object", this.field)
+            );
+        } catch (final IOException | JsonException exception) {
+            throw new EntryException(
+                String.format("Failed to parse json array of records at field:'%s'", this.field),
+                exception
+            );
+        }
+    }
+
+    private List<T> records(final JsonParser parser) throws EntryException {
+        final List<T> records = new ArrayList<>();
+        JsonParser.Event event = parser.next();
+        while (event != JsonParser.Event.END_ARRAY) {
+            if (event != JsonParser.Event.START_OBJECT) {
+                throw new EntryException(
+                    String.format("Failed to map json array element:%s to record", event)
+                );
+            }
+            records.add(this.projection.projected(parser));
+            event = parser.next();
+        }
+        return Collections.unmodifiableList(records);
+    }
+}
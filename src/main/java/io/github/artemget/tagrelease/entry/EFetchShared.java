@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.net.http.HttpRequest;
+
+/**
+ * Fetches resource once for all concurrent callers of the same request.
+ * Only GET requests are shared, others are always sent.
+ *
+ * @param <T> Value type
+ * @since 0.1.0
+ */
+public final class EFetchShared<T> implements Entry<T> {
+    /**
+     * Request.
+     */
+    private final HttpRequest request;
+
+    /**
+     * Fetches resource.
+     */
+    private final Entry<T> origin;
+
+    /**
+     * Requests in flight.
+     */
+    private final Flights flights;
+
+    /**
+     * Main ctor.
+     *
+     * @param request Request
+     * @param origin Fetches resource
+     * @param flights Requests in flight
+     */
+    public EFetchShared(final HttpRequest request, final Entry<T> origin, final Flights flights) {
+        this.request = request;
+        this.origin = origin;
+        this.flights = flights;
+    }
+
+    @Override
+    public T value() throws EntryException {
+        final T value;
+        if ("GET".equals(this.request.method())) {
+            value = this.flights.value(new RequestKey(this.request).asString(), this.origin);
+        } else {
+            value = this.origin.value();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.exceptions.YamlIndentationException;
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Image tag from values file, placed under image:tag: in this file.
+ * Scans file line by line without building yaml document and stops reading
+ * right after tag. Image written as single line flow mapping of simple scalars
+ * is read by scanner too. Input scanner is not sure about, like other flow
+ * collections, anchors, block or escaped scalars, is read till the end and
+ * parsed by full yaml parser. Input scanned in full without tag has no tag. File is opened once, so it could be read from network stream.
+ *
+ * @since 0.1.0
+ */
+public final class EImageTag implements Entry<String> {
+    /**
+     * Opens values file.
+     */
+    private final Entry<Reader> content;
+
+    /**
+     * Ctor.
+     *
+     * @param content Of values file
+     */
+    public EImageTag(final String content) {
+        this(() -> new StringReader(content));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param content Opens values file
+     */
+    public EImageTag(final Entry<Reader> content) {
+        this.content = content;
+    }
+
+    @Override
+    public String value() throws EntryException {
+        final Scan scan = new Scan();
+        final StringBuilder text = new StringBuilder(1024);
+        try (BufferedReader reader = new BufferedReader(this.content.value())) {
+            final StringBuilder line = new StringBuilder(128);
+            while (!scan.ambiguous && !scan.found() && EImageTag.line(reader, line)) {
+                text.append(line).append('\n');
+                scan.scanned(line);
+            }
+            if (scan.ambiguous) {
+                final StringWriter rest = new StringWriter();
+                reader.transferTo(rest);
+                text.append(rest.getBuffer());
+            }
+        } catch (final IOException exception) {
+            throw new EntryException("Failed to read values file", exception);
+        }
+        final String tag;
+        if (scan.ambiguous) {
+            tag = EImageTag.parsed(text.toString());
+        } else if (scan.tag == null) {
+            throw new EntryException("No image:tag: at values file");
+        } else {
+            tag = scan.tag;
+        }
+        return tag;
+    }
+
+    private static String parsed(final String text) throws EntryException {
+        try {
+            final YamlMapping image = Yaml.createYamlInput(text)
+                .readYamlMapping()
+                .yamlMapping("image");
+            if (image == null || image.string("tag") == null) {
+                throw new EntryException("No image:tag: at values file");
+            }
+            return image.string("tag");
+        } catch (final IOException | YamlIndentationException exception) {
+            throw new EntryException("Failed to parse values file", exception);
+        }
+    }
+
+    /**
+     * Reads next line to buffer, without line break.
+     *
+     * @param reader Of text
+     * @param line Buffer
+     * @return False at the end of text
+     * @throws IOException If fails to read
+     */
+    private static boolean line(final Reader reader, final StringBuilder line) throws IOException {
+        line.setLength(0);
+        int chr = reader.read();
+        final boolean read = chr >= 0;
+        while (chr >= 0 && chr != '\n') {
+            if (chr != '\r') {
+                line.append((char) chr);
+            }
+            chr = reader.read();
+        }
+        return read;
+    }
+
+    /**
+     * State of scan.
+     *
+     * @since 0.1.0
+     */
+    private static final class Scan {
+        /**
+         * Found tag, null till found.
+         */
+        private String tag;
+
+        /**
+         * Whether input should be parsed by yaml parser.
+         */
+        private boolean ambiguous;
+
+        /**
+         * Whether current line is inside top level image mapping.
+         */
+        private boolean image;
+
+        /**
+         * Whether image mapping was met.
+         */
+        private boolean met;
+
+        /**
+         * Whether content was met.
+         */
+        private boolean started;
+
+        /**
+         * Whether previous content line was tag.
+         */
+        private boolean last;
+
+        /**
+         * Indent of image mapping keys, -1 till first key.
+         */
+        private int child = -1;
+
+        /**
+         * Start of key at current line.
+         */
+        private int start;
+
+        /**
+         * End of key at current line, exclusive.
+         */
+        private int end;
+
+        /**
+         * Whether tag is found and could not continue at next lines.
+         *
+         * @return True if rest of input is not needed
+         */
+        boolean found() {
+            return this.tag != null && !this.last;
+        }
+
+        void scanned(final StringBuilder line) {
+            int indent = 0;
+            while (indent < line.length() && line.charAt(indent) == ' ') {
+                ++indent;
+            }
+            if (indent < line.length() && line.charAt(indent) == '\t') {
+                this.ambiguous = true;
+            } else if (indent < line.length() && line.charAt(indent) != '#') {
+                this.content(line, indent);
+                this.started = true;
+            }
+        }
+
+        private void content(final StringBuilder line, final int indent) {
+            if (indent == 0) {
+                this.root(line);
+            } else if (this.image) {
+                this.nested(line, indent);
+            } else {
+                this.last = false;
+            }
+        }
+
+        private void root(final StringBuilder line) {
+            this.image = false;
+            this.last = false;
+            if (Scan.marker(line, "---") && !this.started) {
+                return;
+            }
+            final int colon = this.key(line, 0);
+            if (colon < 0) {
+                this.ambiguous = true;
+            } else if (this.named(line, "image")) {
+                final int value = Scan.value(line, colon + 1);
+                if (this.met) {
+                    this.ambiguous = true;
+                } else if (value == line.length()) {
+                    this.met = true;
+                    this.image = true;
+                } else if (line.charAt(value) == '{') {
+                    this.met = true;
+                    this.tag = this.flow(line, value);
+                    if (this.tag == null) {
+                        this.ambiguous = true;
+                    }
+                } else {
+                    this.ambiguous = true;
+                }
+            }
+        }
+
+        private void nested(final StringBuilder line, final int indent) {
+            if (this.child < 0) {
+                this.child = indent;
+            }
+            if (indent < this.child) {
+                this.ambiguous = true;
+            } else if (indent == this.child) {
+                final int colon = this.key(line, indent);
+                this.last = false;
+                if (colon < 0) {
+                    this.ambiguous = true;
+                } else if (this.named(line, "tag")) {
+                    this.tag = Scan.scalar(line, Scan.value(line, colon + 1));
+                    this.last = true;
+                    if (this.tag == null) {
+                        this.ambiguous = true;
+                    }
+                }
+            } else if (this.last) {
+                this.ambiguous = true;
+            }
+        }
+
+        /**
+         * Tag of single line flow mapping of simple scalars.
+         *
+         * @param line Current line
+         * @param from Start of mapping
+         * @return Tag, null if mapping is not simple or has no tag
+         */
+        private String flow(final StringBuilder line, final int from) {
+            final List<StringBuilder> entries = new ArrayList<>(4);
+            entries.add(new StringBuilder(line.length() - from));
+            char quote = 0;
+            int close = -1;
+            boolean simple = true;
+            int idx = from + 1;
+            while (simple && close < 0 && idx < line.length()) {
+                final char chr = line.charAt(idx);
+                final StringBuilder entry = entries.get(entries.size() - 1);
+                if (quote == '"' && chr == '\\' && idx + 1 < line.length()) {
+                    entry.append(chr).append(line.charAt(idx + 1));
+                    ++idx;
+                } else if (quote == 0 && chr == '}') {
+                    close = idx;
+                } else if (quote == 0 && chr == ',') {
+                    entries.add(new StringBuilder(line.length() - idx));
+                } else if (quote == 0 && "{[#".indexOf(chr) >= 0) {
+                    simple = false;
+                } else {
+                    if (quote != 0 && chr == quote) {
+                        quote = 0;
+                    } else if (quote == 0 && (chr == '"' || chr == '\'')) {
+                        quote = chr;
+                    }
+                    entry.append(chr);
+                }
+                ++idx;
+            }
+            String tag = null;
+            if (simple && close > 0 && Scan.value(line, close + 1) == line.length()) {
+                for (final StringBuilder entry : entries) {
+                    final StringBuilder pair = new StringBuilder(entry.toString().strip());
+                    final int colon;
+                    if (pair.length() > 0) {
+                        colon = this.key(pair, 0);
+                    } else {
+                        colon = 0;
+                    }
+                    if (colon < 0) {
+                        break;
+                    }
+                    if (pair.length() > 0 && this.named(pair, "tag")) {
+                        tag = Scan.scalar(pair, Scan.value(pair, colon + 1));
+                        break;
+                    }
+                }
+            }
+            return tag;
+        }
+
+        /**
+         * Finds key of mapping entry.
+         *
+         * @param line Current line
+         * @param from Start of key
+         * @return Position of colon, -1 if line is not simple mapping entry
+         */
+        private int key(final StringBuilder line, final int from) {
+            int colon = -1;
+            final char first = line.charAt(from);
+            if (first == '"' || first == '\'') {
+                final int close = Scan.index(line, first, from + 1);
+                if (close > 0 && Scan.index(line, '\\', from + 1) < 0
+                    && close + 1 < line.length() && line.charAt(close + 1) == ':'
+                    && Scan.separated(line, close + 2)) {
+                    this.start = from + 1;
+                    this.end = close;
+                    colon = close + 1;
+                }
+            } else if ("-?:[]{}&*!|>%@`,#".indexOf(first) < 0) {
+                for (int idx = from; idx < line.length(); ++idx) {
+                    final char chr = line.charAt(idx);
+                    if (chr == '#' && line.charAt(idx - 1) == ' ') {
+                        break;
+                    }
+                    if (chr == ':' && Scan.separated(line, idx + 1)) {
+                        int last = idx;
+                        while (line.charAt(last - 1) == ' ') {
+                            --last;
+                        }
+                        this.start = from;
+                        this.end = last;
+                        colon = idx;
+                        break;
+                    }
+                }
+            }
+            return colon;
+        }
+
+        private boolean named(final StringBuilder line, final String name) {
+            boolean named = this.end - this.start == name.length();
+            for (int idx = 0; named && idx < name.length(); ++idx) {
+                named = line.charAt(this.start + idx) == name.charAt(idx);
+            }
+            return named;
+        }
+
+        /**
+         * Start of value after colon.
+         *
+         * @param line Current line
+         * @param from Position after colon
+         * @return Start of value, line length if there is no value
+         */
+        private static int value(final StringBuilder line, final int from) {
+            int idx = from;
+            while (idx < line.length() && line.charAt(idx) == ' ') {
+                ++idx;
+            }
+            if (idx < line.length() && line.charAt(idx) == '#') {
+                idx = line.length();
+            }
+            return idx;
+        }
+
+        /**
+         * Single line scalar.
+         *
+         * @param line Current line
+         * @param from Start of scalar
+         * @return Scalar, null if scalar is not simple
+         */
+        private static String scalar(final StringBuilder line, final int from) {
+            String scalar = null;
+            if (from < line.length()) {
+                final char first = line.charAt(from);
+                if (first == '"') {
+                    scalar = Scan.doubled(line, from);
+                } else if (first == '\'') {
+                    scalar = Scan.single(line, from);
+                } else if ("-?:[]{}&*!|>%@`,~".indexOf(first) < 0) {
+                    scalar = Scan.plain(line, from);
+                }
+            }
+            return scalar;
+        }
+
+        private static String doubled(final StringBuilder line, final int from) {
+            final StringBuilder scalar = new StringBuilder(line.length() - from);
+            int idx = from + 1;
+            boolean closed = false;
+            boolean simple = true;
+            while (simple && !closed && idx < line.length()) {
+                final char chr = line.charAt(idx);
+                if (chr == '"') {
+                    closed = true;
+                } else if (chr == '\\' && idx + 1 < line.length()
+                    && "\"\\/".indexOf(line.charAt(idx + 1)) >= 0) {
+                    scalar.append(line.charAt(idx + 1));
+                    ++idx;
+                } else if (chr == '\\') {
+                    simple = false;
+                } else {
+                    scalar.append(chr);
+                }
+                ++idx;
+            }
+            final String result;
+            if (simple && closed && Scan.value(line, idx) == line.length()) {
+                result = scalar.toString();
+            } else {
+                result = null;
+            }
+            return result;
+        }
+
+        private static String single(final StringBuilder line, final int from) {
+            final StringBuilder scalar = new StringBuilder(line.length() - from);
+            int idx = from + 1;
+            boolean closed = false;
+            while (!closed && idx < line.length()) {
+                final char chr = line.charAt(idx);
+                if (chr == '\'' && idx + 1 < line.length() && line.charAt(idx + 1) == '\'') {
+                    scalar.append('\'');
+                    ++idx;
+                } else if (chr == '\'') {
+                    closed = true;
+                } else {
+                    scalar.append(chr);
+                }
+                ++idx;
+            }
+            final String result;
+            if (closed && Scan.value(line, idx) == line.length()) {
+                result = scalar.toString();
+            } else {
+                result = null;
+            }
+            return result;
+        }
+
+        private static String plain(final StringBuilder line, final int from) {
+            int end = from;
+            boolean simple = true;
+            while (end < line.length()) {
+                final char chr = line.charAt(end);
+                if (chr == '#' && line.charAt(end - 1) == ' ') {
+                    break;
+                }
+                if (chr == ':' && Scan.separated(line, end + 1)) {
+                    simple = false;
+                    break;
+                }
+                ++end;
+            }
+            while (end > from && line.charAt(end - 1) == ' ') {
+                --end;
+            }
+            final String scalar;
+            if (simple && !"null".contentEquals(line.subSequence(from, end))) {
+                scalar = line.substring(from, end);
+            } else {
+                scalar = null;
+            }
+            return scalar;
+        }
+
+        private static boolean separated(final StringBuilder line, final int idx) {
+            return idx >= line.length() || line.charAt(idx) == ' ';
+        }
+
+        private static int index(final StringBuilder line, final char chr, final int from) {
+            int index = -1;
+            for (int idx = from; idx < line.length(); ++idx) {
+                if (line.charAt(idx) == chr) {
+                    index = idx;
+                    break;
+                }
+            }
+            return index;
+        }
+
+        private static boolean marker(final StringBuilder line, final String marker) {
+            return line.length() >= marker.length()
+                && marker.contentEquals(line.subSequence(0, marker.length()))
+                && Scan.separated(line, marker.length());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Collects stream of elements to list.
+ *
+ * @param <T> Element type
+ * @since 0.1.0
+ */
+public final class EList<T> implements Entry<List<T>> {
+    /**
+     * Elements.
+     */
+    private final Entry<Stream<T>> origin;
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Elements
+     */
+    public EList(final Entry<Stream<T>> origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public List<T> value() throws EntryException {
+        try (Stream<T> stream = this.origin.value()) {
+            return stream.toList();
+        } catch (final EntryExceptionUnchecked exception) {
+            throw new EntryException("Failed to collect elements", exception);
+        }
+    }
+}
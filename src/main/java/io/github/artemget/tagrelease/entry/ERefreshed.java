@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Value kept in memory and refreshed in background.
+ * First call loads value, next calls return kept value at once. Value older
+ * than period is reloaded at background while stale one is still returned.
+ * Failed reload keeps previous value for one more period, so failing origin
+ * is not called again on every request.
+ *
+ * @param <T> Value type
+ * @since 0.1.0
+ */
+public final class ERefreshed<T> implements Entry<T> {
+    /**
+     * Loads value.
+     */
+    private final Entry<T> origin;
+
+    /**
+     * Time value is fresh, nanoseconds.
+     */
+    private final long period;
+
+    /**
+     * Whether value is reloading.
+     */
+    private final AtomicBoolean reloading;
+
+    /**
+     * Kept value.
+     */
+    private volatile Loaded<T> loaded;
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Loads value
+     * @param period Time value is fresh
+     */
+    public ERefreshed(final Entry<T> origin, final Duration period) {
+        this.origin = origin;
+        this.period = period.toNanos();
+        this.reloading = new AtomicBoolean();
+    }
+
+    @Override
+    public T value() throws EntryException {
+        Loaded<T> current = this.loaded;
+        if (current == null) {
+            synchronized (this.reloading) {
+                current = this.loaded;
+                if (current == null) {
+                    current = new Loaded<>(this.origin.value(), System.nanoTime());
+                    this.loaded = current;
+                }
+            }
+        } else if (System.nanoTime() - current.time() > this.period
+            && this.reloading.compareAndSet(false, true)) {
+            Thread.ofVirtual().start(this::reload);
+        }
+        return current.value();
+    }
+
+    private void reload() {
+        try {
+            this.loaded = new Loaded<>(this.origin.value(), System.nanoTime());
+        } catch (final EntryException ignored) {
+            this.loaded = new Loaded<>(this.loaded.value(), System.nanoTime());
+        } finally {
+            this.reloading.set(false);
+        }
+    }
+
+    /**
+     * Value with time of loading.
+     *
+     * @param value Loaded value
+     * @param time Of loading, nanoseconds
+     * @param <T> Value type
+     * @since 0.1.0
+     */
+    private record Loaded<T>(T value, long time) {
+    }
+}
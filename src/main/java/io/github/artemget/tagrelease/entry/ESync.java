@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Waits for async entry value.
+ *
+ * @param <T> Value type
+ * @since 0.1.0
+ */
+public final class ESync<T> implements Entry<T> {
+    /**
+     * Origin.
+     */
+    private final EAsync<T> origin;
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Origin
+     */
+    public ESync(final EAsync<T> origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public T value() throws EntryException {
+        try {
+            return this.origin.value().join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof EntryException) {
+                throw (EntryException) exception.getCause();
+            }
+            throw new EntryException("Failed to compute async value", exception.getCause());
+        } catch (final CancellationException exception) {
+            throw new EntryException("Async value computation is cancelled", exception);
+        }
+    }
+}
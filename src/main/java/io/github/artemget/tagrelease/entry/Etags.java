@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parsed responses by their etags.
+ * Keeps last recently used responses up to capacity. Should be shared between
+ * requests, values must be immutable.
+ *
+ * @since 0.1.0
+ */
+public final class Etags {
+    /**
+     * Cached responses by request key.
+     */
+    private final Map<String, Tagged> cached;
+
+    /**
+     * Responses returned from cache.
+     */
+    private final AtomicLong hits;
+
+    /**
+     * Responses fetched in full.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Default ctor. Keeps up to 256 responses.
+     */
+    public Etags() {
+        this(256);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param capacity Max count of kept responses
+     */
+    public Etags(final int capacity) {
+        this.cached = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Tagged> eldest) {
+                return this.size() > capacity;
+            }
+        };
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Cached response.
+     *
+     * @param key Request key
+     * @return Etag and parsed response
+     */
+    public Optional<Tagged> tagged(final String key) {
+        synchronized (this.cached) {
+            return Optional.ofNullable(this.cached.get(key));
+        }
+    }
+
+    /**
+     * Caches response.
+     *
+     * @param key Request key
+     * @param etag Of response
+     * @param value Parsed response
+     */
+    public void put(final String key, final String etag, final Object value) {
+        synchronized (this.cached) {
+            this.cached.put(key, new Tagged(etag, value));
+        }
+    }
+
+    /**
+     * Counts response returned from cache.
+     */
+    public void hit() {
+        this.hits.incrementAndGet();
+    }
+
+    /**
+     * Counts response fetched in full.
+     */
+    public void miss() {
+        this.misses.incrementAndGet();
+    }
+
+    /**
+     * Responses returned from cache.
+     *
+     * @return Count
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Responses fetched in full.
+     *
+     * @return Count
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Parsed response with it's etag.
+     *
+     * @param etag Of response
+     * @param value Parsed response
+     * @since 0.1.0
+     */
+    public record Tagged(String etag, Object value) {
+    }
+}
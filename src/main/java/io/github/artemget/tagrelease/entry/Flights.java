@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Requests in flight.
+ * Concurrent callers of the same request wait for the one in flight and share
+ * it's value. Should be shared between requests, values must be immutable.
+ *
+ * @since 0.1.0
+ */
+public final class Flights {
+    /**
+     * Values in flight by request key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> flying;
+
+    /**
+     * Requests sent.
+     */
+    private final AtomicLong leads;
+
+    /**
+     * Requests joined to one in flight.
+     */
+    private final AtomicLong joins;
+
+    /**
+     * Main ctor.
+     */
+    public Flights() {
+        this.flying = new ConcurrentHashMap<>();
+        this.leads = new AtomicLong();
+        this.joins = new AtomicLong();
+    }
+
+    /**
+     * Value of request, computed once for all concurrent callers.
+     *
+     * @param key Request key
+     * @param origin Computes value
+     * @param <T> Value type
+     * @return Value
+     * @throws EntryException If fails to compute value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T value(final String key, final Entry<T> origin) throws EntryException {
+        final CompletableFuture<Object> mine = new CompletableFuture<>();
+        final CompletableFuture<Object> flight = this.flying.putIfAbsent(key, mine);
+        final T value;
+        if (flight == null) {
+            this.leads.incrementAndGet();
+            try {
+                value = origin.value();
+                mine.complete(value);
+            } catch (final EntryException | RuntimeException exception) {
+                mine.completeExceptionally(exception);
+                throw exception;
+            } finally {
+                this.flying.remove(key, mine);
+                mine.completeExceptionally(new CancellationException("Request in flight is failed"));
+            }
+        } else {
+            this.joins.incrementAndGet();
+            try {
+                value = (T) flight.join();
+            } catch (final CompletionException | CancellationException exception) {
+                throw new EntryException("Failed to fetch request in flight", exception.getCause());
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Requests sent.
+     *
+     * @return Count
+     */
+    public long leads() {
+        return this.leads.get();
+    }
+
+    /**
+     * Requests joined to one in flight instead of being sent.
+     *
+     * @return Count
+     */
+    public long joins() {
+        return this.joins.get();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.EntryException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.json.stream.JsonParser;
+
+/**
+ * Projection of json object to record.
+ * Only declared fields are read from token stream, all other values are skipped
+ * without building json tree. Fields are declared by dot separated paths,
+ * like "commit.id". Declared field must be present at object, but could be null.
+ * Declared array is read as it's scalar values separated by space, like
+ * "parent_ids", nested objects and arrays of it are skipped.
+ *
+ * @param <T> Record type
+ * @since 0.1.0
+ */
+public final class Projection<T> {
+    /**
+     * Field paths.
+     */
+    private final String[] fields;
+
+    /**
+     * Field path to it's position.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * Paths of objects containing fields.
+     */
+    private final Set<String> parents;
+
+    /**
+     * Record from field values in declared order.
+     */
+    private final Function<List<String>, T> record;
+
+    /**
+     * Main ctor.
+     *
+     * @param record Record from field values in declared order
+     * @param fields Field paths
+     */
+    public Projection(final Function<List<String>, T> record, final String... fields) {
+        this.fields = fields.clone();
+        this.positions = new HashMap<>();
+        this.parents = new HashSet<>();
+        for (int index = 0; index < fields.length; index++) {
+            this.positions.put(fields[index], index);
+            int dot = fields[index].indexOf('.');
+            while (dot > 0) {
+                this.parents.add(fields[index].substring(0, dot));
+                dot = fields[index].indexOf('.', dot + 1);
+            }
+        }
+        this.record = record;
+    }
+
+    /**
+     * Reads record from object. Parser should be placed right after object start.
+     *
+     * @param parser Json
+     * @return Record
+     * @throws EntryException If declared field is absent
+     */
+    public T projected(final JsonParser parser) throws EntryException {
+        final String[] values = new String[this.fields.length];
+        final boolean[] found = new boolean[this.fields.length];
+        this.read(parser, "", values, found);
+        for (int index = 0; index < found.length; index++) {
+            if (!found[index]) {
+                throw new EntryException(
+                    String.format("Field:'%s' is absent at json object", this.fields[index])
+                );
+            }
+        }
+        return this.record.apply(Arrays.asList(values));
+    }
+
+    private void read(
+        final JsonParser parser,
+        final String parent,
+        final String[] values,
+        final boolean[] found
+    ) {
+        JsonParser.Event event = parser.next();
+        while (event != JsonParser.Event.END_OBJECT) {
+            final String path;
+            if (parent.isEmpty()) {
+                path = parser.getString();
+            } else {
+                path = parent.concat(".").concat(parser.getString());
+            }
+            event = parser.next();
+            if (event == JsonParser.Event.START_OBJECT && this.parents.contains(path)) {
+                this.read(parser, path, values, found);
+            } else if (event == JsonParser.Event.START_ARRAY && this.positions.containsKey(path)) {
+                values[this.positions.get(path)] = Projection.listed(parser);
+                found[this.positions.get(path)] = true;
+            } else if (event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY) {
+                Projection.skipped(parser);
+            } else {
+                final Integer position = this.positions.get(path);
+                if (position != null) {
+                    values[position] = Projection.scalar(parser, event);
+                    found[position] = true;
+                }
+            }
+            event = parser.next();
+        }
+    }
+
+    private static String scalar(final JsonParser parser, final JsonParser.Event event) {
+        final String value;
+        switch (event) {
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                value = parser.getString();
+                break;
+            case VALUE_TRUE:
+                value = "true";
+                break;
+            case VALUE_FALSE:
+                value = "false";
+                break;
+            default:
+                value = null;
+                break;
+        }
+        return value;
+    }
+
+    private static String listed(final JsonParser parser) {
+        final StringBuilder values = new StringBuilder();
+        JsonParser.Event event = parser.next();
+        while (event != JsonParser.Event.END_ARRAY) {
+            if (event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY) {
+                Projection.skipped(parser);
+            } else {
+                final String value = Projection.scalar(parser, event);
+                if (value != null) {
+                    if (!values.isEmpty()) {
+                        values.append(' ');
+                    }
+                    values.append(value);
+                }
+            }
+            event = parser.next();
+        }
+        return values.toString();
+    }
+
+    private static void skipped(final JsonParser parser) {
+        int depth = 1;
+        while (depth > 0) {
+            final JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY) {
+                depth++;
+            } else if (event == JsonParser.Event.END_OBJECT || event == JsonParser.Event.END_ARRAY) {
+                depth--;
+            }
+        }
+    }
+}
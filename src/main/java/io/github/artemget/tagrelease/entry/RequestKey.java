@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import java.net.http.HttpRequest;
+
+/**
+ * Identity of request by method, location and access token.
+ *
+ * @since 0.1.0
+ */
+final class RequestKey {
+    /**
+     * Request.
+     */
+    private final HttpRequest request;
+
+    /**
+     * Main ctor.
+     *
+     * @param request Request
+     */
+    RequestKey(final HttpRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Key of request.
+     *
+     * @return Key
+     */
+    String asString() {
+        return String.format(
+            "%s %s %s",
+            this.request.method(),
+            this.request.uri(),
+            this.request.headers().firstValue("PRIVATE-TOKEN").orElse("")
+        );
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parsed contents by their sha.
+ * Content with given sha never changes, so values are never invalidated,
+ * only last recently used ones are kept up to capacity. Should be shared
+ * between stands, values must be immutable.
+ *
+ * @param <T> Parsed type
+ * @since 0.1.0
+ */
+public final class Shas<T> {
+    /**
+     * Parsed contents by sha.
+     */
+    private final Map<String, T> parsed;
+
+    /**
+     * Values returned from cache.
+     */
+    private final AtomicLong hits;
+
+    /**
+     * Values parsed from fetched content.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Default ctor. Keeps up to 4096 values.
+     */
+    public Shas() {
+        this(4096);
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param capacity Max count of kept values
+     */
+    public Shas(final int capacity) {
+        this.parsed = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+                return this.size() > capacity;
+            }
+        };
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Cached value or parsed one.
+     * Origin is called outside of lock, so same content could be parsed twice
+     * by concurrent callers, which is harmless for immutable content.
+     *
+     * @param sha Of content
+     * @param origin Fetches and parses content
+     * @return Parsed content
+     * @throws EntryException If origin fails
+     */
+    public T value(final String sha, final Entry<T> origin) throws EntryException {
+        T value;
+        synchronized (this.parsed) {
+            value = this.parsed.get(sha);
+        }
+        if (value == null) {
+            this.misses.incrementAndGet();
+            value = origin.value();
+            synchronized (this.parsed) {
+                this.parsed.put(sha, value);
+            }
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Values returned from cache.
+     *
+     * @return Count
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Values parsed from fetched content.
+     *
+     * @return Count
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Entries of tar stream, read one by one without buffering whole archive.
+ * Supports ustar headers with prefix, pax and gnu long names, which git
+ * archives use for long paths. Content of entry, not read till next entry
+ * is requested, is skipped.
+ *
+ * @since 0.1.0
+ */
+public final class Tar {
+    /**
+     * Size of header and data blocks.
+     */
+    private static final int BLOCK = 512;
+
+    /**
+     * Archive stream.
+     */
+    private final InputStream stream;
+
+    /**
+     * Bytes of current entry left to read, with padding.
+     */
+    private long left;
+
+    /**
+     * Bytes of current entry content not read yet.
+     */
+    private long unread;
+
+    /**
+     * Main ctor.
+     *
+     * @param stream Archive stream, not compressed
+     */
+    public Tar(final InputStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Next file or directory entry.
+     *
+     * @return Entry, empty at the end of archive
+     * @throws IOException If archive is broken
+     */
+    public Optional<Header> next() throws IOException {
+        String longname = null;
+        Optional<Header> next = Optional.empty();
+        while (next.isEmpty()) {
+            this.skipped();
+            final byte[] block = this.stream.readNBytes(Tar.BLOCK);
+            if (block.length < Tar.BLOCK || Tar.zero(block)) {
+                break;
+            }
+            final long size = Tar.size(block);
+            this.unread = size;
+            this.left = (size + Tar.BLOCK - 1) / Tar.BLOCK * Tar.BLOCK;
+            final char type = (char) block[156];
+            if (type == 'x') {
+                longname = Tar.pax(this.content()).orElse(longname);
+            } else if (type == 'L') {
+                longname = Tar.text(this.content(), 0, (int) size);
+            } else if (type == 'g') {
+                this.skipped();
+            } else {
+                final String name;
+                if (longname == null) {
+                    name = Tar.named(block);
+                } else {
+                    name = longname;
+                }
+                next = Optional.of(new Header(name, type == '5', size));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Content of current entry.
+     *
+     * @return Bytes
+     * @throws IOException If archive is broken
+     */
+    public byte[] content() throws IOException {
+        if (this.unread > Integer.MAX_VALUE) {
+            throw new IOException(String.format("Tar entry of %d bytes is too large", this.unread));
+        }
+        final byte[] content = this.stream.readNBytes((int) this.unread);
+        if (content.length < this.unread) {
+            throw new EOFException("Tar entry is truncated");
+        }
+        this.left -= content.length;
+        this.unread = 0;
+        return content;
+    }
+
+    private void skipped() throws IOException {
+        while (this.left > 0) {
+            final long skipped = this.stream.skip(this.left);
+            if (skipped <= 0) {
+                if (this.stream.read() < 0) {
+                    throw new EOFException("Tar entry is truncated");
+                }
+                this.left -= 1;
+            } else {
+                this.left -= skipped;
+            }
+        }
+        this.unread = 0;
+    }
+
+    private static String named(final byte[] block) {
+        final String name = Tar.text(block, 0, 100);
+        final String prefix;
+        if ("ustar".equals(Tar.text(block, 257, 5))) {
+            prefix = Tar.text(block, 345, 155);
+        } else {
+            prefix = "";
+        }
+        final String named;
+        if (prefix.isEmpty()) {
+            named = name;
+        } else {
+            named = String.format("%s/%s", prefix, name);
+        }
+        return named;
+    }
+
+    private static long size(final byte[] block) throws IOException {
+        long size = 0;
+        if ((block[124] & 0x80) != 0) {
+            for (int idx = 125; idx < 136; ++idx) {
+                size = (size << 8) | (block[idx] & 0xff);
+            }
+        } else {
+            final String octal = Tar.text(block, 124, 12).trim();
+            if (!octal.isEmpty()) {
+                try {
+                    size = Long.parseLong(octal, 8);
+                } catch (final NumberFormatException exception) {
+                    throw new IOException(String.format("Wrong tar entry size:'%s'", octal), exception);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Path from pax extended header.
+     * Records are formatted as "length key=value\n".
+     *
+     * @param content Of pax header
+     * @return Path if present
+     */
+    private static Optional<String> pax(final byte[] content) {
+        Optional<String> path = Optional.empty();
+        for (final String rec : new String(content, StandardCharsets.UTF_8).split("\n")) {
+            final int start = rec.indexOf(' ');
+            if (start > 0 && rec.startsWith("path=", start + 1)) {
+                path = Optional.of(rec.substring(start + 6));
+            }
+        }
+        return path;
+    }
+
+    private static String text(final byte[] bytes, final int off, final int len) {
+        int end = off;
+        while (end < off + len && end < bytes.length && bytes[end] != 0) {
+            ++end;
+        }
+        return new String(bytes, off, end - off, StandardCharsets.UTF_8);
+    }
+
+    private static boolean zero(final byte[] block) {
+        boolean zero = true;
+        for (final byte value : block) {
+            if (value != 0) {
+                zero = false;
+                break;
+            }
+        }
+        return zero;
+    }
+
+    /**
+     * Tar entry header.
+     *
+     * @param name Path of entry
+     * @param directory Whether entry is directory
+     * @param size Of content
+     * @since 0.1.0
+     */
+    public record Header(String name, boolean directory, long size) {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket of requests to scm provider.
+ * Requests wait in queue for their token in order of arrival instead of failing.
+ * Bucket is narrowed by rate limit reported by provider.
+ *
+ * @since 0.1.0
+ */
+public final class Bucket {
+    /**
+     * Max count of tokens.
+     */
+    private final double capacity;
+
+    /**
+     * Tokens added per nanosecond.
+     */
+    private final double rate;
+
+    /**
+     * Queue of waiting requests.
+     */
+    private final Lock queue;
+
+    /**
+     * Requests in queue.
+     */
+    private final AtomicInteger queued;
+
+    /**
+     * Total time spent in queue, nanoseconds.
+     */
+    private final AtomicLong waited;
+
+    /**
+     * Requests passed.
+     */
+    private final AtomicLong acquired;
+
+    /**
+     * Available tokens.
+     */
+    private double tokens;
+
+    /**
+     * Time of last refill, nanoseconds.
+     */
+    private long refilled;
+
+    /**
+     * Time till requests are paused, nanoseconds.
+     */
+    private long paused;
+
+    /**
+     * Main ctor.
+     *
+     * @param capacity Max count of requests in burst
+     * @param rate Requests per second
+     */
+    public Bucket(final int capacity, final double rate) {
+        this.capacity = capacity;
+        this.rate = rate / TimeUnit.SECONDS.toNanos(1);
+        this.queue = new ReentrantLock(true);
+        this.queued = new AtomicInteger();
+        this.waited = new AtomicLong();
+        this.acquired = new AtomicLong();
+        this.tokens = capacity;
+        this.refilled = System.nanoTime();
+        this.paused = this.refilled;
+    }
+
+    /**
+     * Waits for token.
+     *
+     * @return Time spent in queue
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public Duration acquire() throws InterruptedException {
+        final long start = System.nanoTime();
+        this.queued.incrementAndGet();
+        try {
+            this.queue.lockInterruptibly();
+            try {
+                long delay = this.reserved();
+                while (delay > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                    delay = this.reserved();
+                }
+            } finally {
+                this.queue.unlock();
+            }
+        } finally {
+            this.queued.decrementAndGet();
+        }
+        final long spent = System.nanoTime() - start;
+        this.waited.addAndGet(spent);
+        this.acquired.incrementAndGet();
+        return Duration.ofNanos(spent);
+    }
+
+    /**
+     * Waits for token without blocking caller.
+     * Waiting is rescheduled by delay till next token, async requests
+     * are not queued in order of arrival.
+     *
+     * @return Time spent waiting
+     */
+    public CompletableFuture<Duration> acquireAsync() {
+        final CompletableFuture<Duration> acquired = new CompletableFuture<>();
+        this.queued.incrementAndGet();
+        this.attempted(System.nanoTime(), acquired);
+        return acquired;
+    }
+
+    /**
+     * Pauses all requests.
+     *
+     * @param duration Of pause
+     */
+    public synchronized void pause(final Duration duration) {
+        this.paused = Math.max(this.paused, System.nanoTime() + duration.toNanos());
+    }
+
+    /**
+     * Narrows bucket to requests remaining at provider.
+     *
+     * @param remaining Count of requests provider accepts till reset
+     * @param reset Time till provider resets limit
+     */
+    public synchronized void remaining(final long remaining, final Duration reset) {
+        this.refill();
+        this.tokens = Math.min(this.tokens, remaining);
+        if (remaining <= 0) {
+            this.pause(reset);
+        }
+    }
+
+    /**
+     * Requests waiting for token.
+     *
+     * @return Count
+     */
+    public int queued() {
+        return this.queued.get();
+    }
+
+    /**
+     * Total time requests spent in queue.
+     *
+     * @return Time
+     */
+    public Duration waited() {
+        return Duration.ofNanos(this.waited.get());
+    }
+
+    /**
+     * Requests passed.
+     *
+     * @return Count
+     */
+    public long acquired() {
+        return this.acquired.get();
+    }
+
+    private void attempted(final long start, final CompletableFuture<Duration> acquired) {
+        final long delay = this.reserved();
+        if (delay > 0) {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(
+                () -> this.attempted(start, acquired)
+            );
+        } else {
+            this.queued.decrementAndGet();
+            final long spent = System.nanoTime() - start;
+            this.waited.addAndGet(spent);
+            this.acquired.incrementAndGet();
+            acquired.complete(Duration.ofNanos(spent));
+        }
+    }
+
+    /**
+     * Takes token if available.
+     *
+     * @return Zero if token is taken, otherwise nanoseconds to wait
+     */
+    private synchronized long reserved() {
+        this.refill();
+        final long now = System.nanoTime();
+        final long delay;
+        if (this.paused > now) {
+            delay = this.paused - now;
+        } else if (this.tokens >= 1) {
+            this.tokens -= 1;
+            delay = 0;
+        } else {
+            delay = Math.max(1, (long) Math.ceil((1 - this.tokens) / this.rate));
+        }
+        return delay;
+    }
+
+    private void refill() {
+        final long now = System.nanoTime();
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.refilled) * this.rate);
+        this.refilled = now;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Http transport to scm provider.
+ *
+ * @since 0.1.0
+ */
+public interface Http {
+    /**
+     * Sends request and returns response with not consumed body.
+     * Caller is responsible to close body stream.
+     *
+     * @param request To send
+     * @return Response
+     * @throws IOException If fails to send request
+     */
+    HttpResponse<InputStream> send(HttpRequest request) throws IOException;
+
+    /**
+     * Sends request without blocking caller.
+     * Fails with {@link CompletionException} caused by {@link IOException}.
+     * By default blocking send runs at virtual thread, transports able
+     * to wait for response without thread override it.
+     *
+     * @param request To send
+     * @return Response
+     */
+    default CompletableFuture<HttpResponse<InputStream>> sendAsync(final HttpRequest request) {
+        final CompletableFuture<HttpResponse<InputStream>> response = new CompletableFuture<>();
+        Thread.ofVirtual().start(
+            () -> {
+                try {
+                    response.complete(this.send(request));
+                } catch (final IOException | RuntimeException exception) {
+                    response.completeExceptionally(exception);
+                }
+            }
+        );
+        return response;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Http transport with circuit breaker per host.
+ * After series of failures, errors of sending or server errors, requests to host
+ * fail fast till cooldown passes. Then single request is let through to probe
+ * host, its success closes circuit.
+ *
+ * @since 0.1.0
+ */
+public final class HttpBreaker implements Http {
+    /**
+     * Origin transport.
+     */
+    private final Http origin;
+
+    /**
+     * Count of failures in a row opening circuit.
+     */
+    private final int failures;
+
+    /**
+     * Time circuit stays open.
+     */
+    private final Duration cooldown;
+
+    /**
+     * Circuits by host.
+     */
+    private final Map<String, Circuit> circuits;
+
+    /**
+     * Ctor.
+     * Opens circuit after 5 failures for 30 seconds.
+     *
+     * @param origin Origin transport
+     */
+    public HttpBreaker(final Http origin) {
+        this(origin, 5, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Origin transport
+     * @param failures Count of failures in a row opening circuit
+     * @param cooldown Time circuit stays open
+     */
+    public HttpBreaker(final Http origin, final int failures, final Duration cooldown) {
+        this.origin = origin;
+        this.failures = failures;
+        this.cooldown = cooldown;
+        this.circuits = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public HttpResponse<InputStream> send(final HttpRequest request) throws IOException {
+        final String host = request.uri().getHost();
+        final Circuit circuit = this.circuits.computeIfAbsent(host, key -> new Circuit());
+        if (!circuit.allowed(this.failures, this.cooldown)) {
+            throw HttpBreaker.unhealthy(request);
+        }
+        HttpResponse<InputStream> response = null;
+        try {
+            response = this.origin.send(request);
+        } finally {
+            if (response == null || response.statusCode() >= 500) {
+                circuit.failed();
+            } else {
+                circuit.succeeded();
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(final HttpRequest request) {
+        final Circuit circuit = this.circuits.computeIfAbsent(
+            request.uri().getHost(), key -> new Circuit()
+        );
+        final CompletableFuture<HttpResponse<InputStream>> response;
+        if (circuit.allowed(this.failures, this.cooldown)) {
+            response = CompletableFuture.completedFuture(request)
+                .thenCompose(this.origin::sendAsync)
+                .whenComplete(
+                    (sent, error) -> {
+                        if (error != null || sent.statusCode() >= 500) {
+                            circuit.failed();
+                        } else {
+                            circuit.succeeded();
+                        }
+                    }
+                );
+        } else {
+            response = CompletableFuture.failedFuture(HttpBreaker.unhealthy(request));
+        }
+        return response;
+    }
+
+    private static IOException unhealthy(final HttpRequest request) {
+        return new IOException(
+            String.format(
+                "Host:%s is unhealthy, failed to request resource:%s",
+                request.uri().getHost(),
+                request.uri()
+            )
+        );
+    }
+
+    /**
+     * State of host.
+     *
+     * @since 0.1.0
+     */
+    private static final class Circuit {
+        /**
+         * Failures in a row.
+         */
+        private int failed;
+
+        /**
+         * Time of opening, nanoseconds.
+         */
+        private long opened;
+
+        /**
+         * Whether probe request is in flight.
+         */
+        private boolean probing;
+
+        synchronized boolean allowed(final int failures, final Duration cooldown) {
+            final boolean allowed;
+            if (this.failed < failures) {
+                allowed = true;
+            } else if (System.nanoTime() - this.opened < cooldown.toNanos() || this.probing) {
+                allowed = false;
+            } else {
+                this.probing = true;
+                allowed = true;
+            }
+            return allowed;
+        }
+
+        synchronized void succeeded() {
+            this.failed = 0;
+            this.probing = false;
+        }
+
+        synchronized void failed() {
+            this.failed += 1;
+            this.probing = false;
+            this.opened = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Http transport negotiating gzip compression.
+ * Asks provider for gzip unless request sets it's own encoding, decompresses
+ * body while it is read and counts bytes of endpoint before and after decompression.
+ *
+ * @since 0.1.0
+ */
+public final class HttpGzip implements Http {
+    /**
+     * Origin transport.
+     */
+    private final Http origin;
+
+    /**
+     * Counted bytes.
+     */
+    private final Wire wire;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin transport
+     */
+    public HttpGzip(final Http origin) {
+        this(origin, new Wire());
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Origin transport
+     * @param wire Counted bytes
+     */
+    public HttpGzip(final Http origin, final Wire wire) {
+        this.origin = origin;
+        this.wire = wire;
+    }
+
+    @Override
+    public HttpResponse<InputStream> send(final HttpRequest request) throws IOException {
+        return this.decoded(this.origin.send(HttpGzip.negotiated(request)));
+    }
+
+    /**
+     * Sends request without blocking caller.
+     * Gzip stream reads header at creation, so body is decoded at virtual thread,
+     * not at thread of transport.
+     *
+     * @param request To send
+     * @return Response
+     */
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(final HttpRequest request) {
+        return this.origin.sendAsync(HttpGzip.negotiated(request)).thenApplyAsync(
+            response -> {
+                try {
+                    return this.decoded(response);
+                } catch (final IOException exception) {
+                    throw new CompletionException(exception);
+                }
+            },
+            runnable -> Thread.ofVirtual().start(runnable)
+        );
+    }
+
+    private HttpResponse<InputStream> decoded(final HttpResponse<InputStream> response)
+        throws IOException {
+        final Wire.Traffic traffic = this.wire.endpoint(
+            response.request().method(),
+            response.request().uri().getRawPath()
+        );
+        final InputStream wired = new Counted(response.body(), traffic.compressed());
+        final InputStream body;
+        if (HttpGzip.compressed(response)) {
+            body = new Counted(new GZIPInputStream(wired, 8192), traffic.uncompressed());
+        } else {
+            body = new Counted(wired, traffic.uncompressed());
+        }
+        return new Decoded(response, body);
+    }
+
+    /**
+     * Whether response has gzip body.
+     * Gzip stream reads header at creation, so bodies known to be empty are skipped.
+     *
+     * @param response Response
+     * @return True if body is compressed
+     */
+    private static boolean compressed(final HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Encoding")
+            .filter("gzip"::equalsIgnoreCase).isPresent()
+            && response.statusCode() != 204
+            && response.statusCode() != 304
+            && !"HEAD".equals(response.request().method())
+            && response.headers().firstValueAsLong("Content-Length").orElse(-1) != 0;
+    }
+
+    private static HttpRequest negotiated(final HttpRequest request) {
+        final HttpRequest negotiated;
+        if (request.headers().firstValue("Accept-Encoding").isPresent()) {
+            negotiated = request;
+        } else {
+            negotiated = HttpRequest.newBuilder(request, (name, value) -> true)
+                .header("Accept-Encoding", "gzip")
+                .build();
+        }
+        return negotiated;
+    }
+
+    /**
+     * Stream counting read bytes.
+     *
+     * @since 0.1.0
+     */
+    private static final class Counted extends FilterInputStream {
+        /**
+         * Read bytes.
+         */
+        private final LongAdder count;
+
+        Counted(final InputStream origin, final LongAdder count) {
+            super(origin);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read >= 0) {
+                this.count.increment();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) throws IOException {
+            final int read = super.read(bytes, off, len);
+            if (read > 0) {
+                this.count.add(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long bytes) throws IOException {
+            final long skipped = super.skip(bytes);
+            this.count.add(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * Response with decoded body.
+     * Content encoding header is kept, body is decoded already.
+     *
+     * @since 0.1.0
+     */
+    private static final class Decoded implements HttpResponse<InputStream> {
+        /**
+         * Origin response.
+         */
+        private final HttpResponse<InputStream> origin;
+
+        /**
+         * Decoded body.
+         */
+        private final InputStream body;
+
+        Decoded(final HttpResponse<InputStream> origin, final InputStream body) {
+            this.origin = origin;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return this.origin.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return this.origin.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return this.origin.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return this.origin.headers();
+        }
+
+        @Override
+        public InputStream body() {
+            return this.body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return this.origin.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return this.origin.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return this.origin.version();
+        }
+    }
+}
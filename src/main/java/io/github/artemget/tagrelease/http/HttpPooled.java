@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Http transport with kept alive connections.
+ * Single instance should be shared between all requests to scm provider,
+ * so connections are reused and multiplexed over HTTP/2 where supported.
+ *
+ * @since 0.1.0
+ */
+public final class HttpPooled implements Http {
+    /**
+     * Http client.
+     */
+    private final HttpClient client;
+
+    /**
+     * Default ctor.
+     * Size of pool and keep alive time of connections are jdk wide, they are
+     * read from jdk.httpclient.* system properties at first client creation.
+     */
+    public HttpPooled() {
+        this(
+            HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()
+        );
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param client Http client
+     */
+    public HttpPooled(final HttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public HttpResponse<InputStream> send(final HttpRequest request) throws IOException {
+        try {
+            return this.client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(
+                String.format("Interrupted while requesting resource:%s", request.uri()),
+                exception
+            );
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(final HttpRequest request) {
+        return this.client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Http transport retrying idempotent requests.
+ * Reads, see {@link ReadRequest}, failed with io error or gateway status are
+ * sent again after exponential backoff with full jitter. Other requests, like tag creation,
+ * are sent once, because their failure does not mean they were not applied.
+ *
+ * @since 0.1.0
+ */
+public final class HttpRetried implements Http {
+    /**
+     * Statuses of transient provider failure.
+     */
+    private static final Set<Integer> TRANSIENT = Set.of(502, 503, 504);
+
+    /**
+     * Origin transport.
+     */
+    private final Http origin;
+
+    /**
+     * Max count of attempts.
+     */
+    private final int attempts;
+
+    /**
+     * Backoff before second attempt.
+     */
+    private final Duration base;
+
+    /**
+     * Max backoff.
+     */
+    private final Duration max;
+
+    /**
+     * Ctor.
+     * Makes up to 3 attempts, backoff starts from 200 milliseconds up to 5 seconds.
+     *
+     * @param origin Origin transport
+     */
+    public HttpRetried(final Http origin) {
+        this(origin, 3, Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Origin transport
+     * @param attempts Max count of attempts
+     * @param base Backoff before second attempt
+     * @param max Max backoff
+     */
+    public HttpRetried(
+        final Http origin,
+        final int attempts,
+        final Duration base,
+        final Duration max
+    ) {
+        this.origin = origin;
+        this.attempts = attempts;
+        this.base = base;
+        this.max = max;
+    }
+
+    @Override
+    public HttpResponse<InputStream> send(final HttpRequest request) throws IOException {
+        final int total = this.total(request);
+        HttpResponse<InputStream> response = null;
+        for (int attempt = 1; response == null; ++attempt) {
+            final boolean last = attempt >= total;
+            try {
+                final HttpResponse<InputStream> sent = this.origin.send(request);
+                if (!last && HttpRetried.TRANSIENT.contains(sent.statusCode())) {
+                    sent.body().close();
+                } else {
+                    response = sent;
+                }
+            } catch (final IOException exception) {
+                if (last) {
+                    throw exception;
+                }
+            }
+            if (response == null) {
+                this.backoff(request, attempt);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(final HttpRequest request) {
+        return this.sendAsync(request, this.total(request), 1);
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> sendAsync(
+        final HttpRequest request,
+        final int total,
+        final int attempt
+    ) {
+        final boolean last = attempt >= total;
+        return this.origin.sendAsync(request).handle(
+            (sent, error) -> {
+                final CompletableFuture<HttpResponse<InputStream>> response;
+                if (error == null && (last || !HttpRetried.TRANSIENT.contains(sent.statusCode()))) {
+                    response = CompletableFuture.completedFuture(sent);
+                } else if (error != null && (last || !(HttpRetried.cause(error) instanceof IOException))) {
+                    response = CompletableFuture.failedFuture(HttpRetried.cause(error));
+                } else {
+                    if (sent != null) {
+                        HttpRetried.discarded(sent);
+                    }
+                    response = CompletableFuture.runAsync(
+                        () -> { },
+                        CompletableFuture.delayedExecutor(this.delay(attempt), TimeUnit.NANOSECONDS)
+                    ).thenCompose(ignored -> this.sendAsync(request, total, attempt + 1));
+                }
+                return response;
+            }
+        ).thenCompose(response -> response);
+    }
+
+    private int total(final HttpRequest request) {
+        final int total;
+        if (ReadRequest.read(request)) {
+            total = this.attempts;
+        } else {
+            total = 1;
+        }
+        return total;
+    }
+
+    private void backoff(final HttpRequest request, final int attempt) throws IOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(this.delay(attempt));
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(
+                String.format("Interrupted while retrying resource:%s", request.uri()),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Backoff with full jitter.
+     *
+     * @param attempt Failed attempt, starting from 1
+     * @return Nanoseconds to wait
+     */
+    private long delay(final int attempt) {
+        final long ceiling = Math.min(
+            this.max.toNanos(),
+            this.base.toNanos() << Math.min(attempt - 1, 30)
+        );
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void discarded(final HttpResponse<InputStream> response) {
+        try {
+            response.body().close();
+        } catch (final IOException ignored) {
+            // response is sent again anyway
+        }
+    }
+
+    private static Throwable cause(final Throwable error) {
+        final Throwable cause;
+        if (error instanceof CompletionException && error.getCause() != null) {
+            cause = error.getCause();
+        } else {
+            cause = error;
+        }
+        return cause;
+    }
+}
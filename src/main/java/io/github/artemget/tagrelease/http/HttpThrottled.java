@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Http transport throttled by token buckets.
+ * Reads, see {@link ReadRequest}, and writes are limited separately. Rate limit
+ * headers of provider narrow bucket, too many requests response is sent again
+ * after pause.
+ *
+ * @since 0.1.0
+ */
+public final class HttpThrottled implements Http {
+    /**
+     * Max count of attempts of too many requests response.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * Origin transport.
+     */
+    private final Http origin;
+
+    /**
+     * Bucket of reads.
+     */
+    private final Bucket reads;
+
+    /**
+     * Bucket of writes.
+     */
+    private final Bucket writes;
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Origin transport
+     * @param reads Bucket of reads
+     * @param writes Bucket of writes
+     */
+    public HttpThrottled(final Http origin, final Bucket reads, final Bucket writes) {
+        this.origin = origin;
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    @Override
+    public HttpResponse<InputStream> send(final HttpRequest request) throws IOException {
+        final Bucket bucket = this.bucket(request);
+        HttpResponse<InputStream> response = null;
+        for (int attempt = 1; response == null; ++attempt) {
+            try {
+                bucket.acquire();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException(
+                    String.format("Interrupted while waiting to request resource:%s", request.uri()),
+                    exception
+                );
+            }
+            final HttpResponse<InputStream> sent = this.origin.send(request);
+            HttpThrottled.adapted(bucket, sent);
+            if (sent.statusCode() == 429 && attempt < HttpThrottled.ATTEMPTS) {
+                sent.body().close();
+            } else {
+                response = sent;
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(final HttpRequest request) {
+        return this.sendAsync(request, this.bucket(request), 1);
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> sendAsync(
+        final HttpRequest request,
+        final Bucket bucket,
+        final int attempt
+    ) {
+        return bucket.acquireAsync()
+            .thenCompose(waited -> this.origin.sendAsync(request))
+            .thenCompose(
+                sent -> {
+                    HttpThrottled.adapted(bucket, sent);
+                    final CompletableFuture<HttpResponse<InputStream>> response;
+                    if (sent.statusCode() == 429 && attempt < HttpThrottled.ATTEMPTS) {
+                        HttpThrottled.discarded(sent);
+                        response = this.sendAsync(request, bucket, attempt + 1);
+                    } else {
+                        response = CompletableFuture.completedFuture(sent);
+                    }
+                    return response;
+                }
+            );
+    }
+
+    private Bucket bucket(final HttpRequest request) {
+        final Bucket bucket;
+        if (ReadRequest.read(request)) {
+            bucket = this.reads;
+        } else {
+            bucket = this.writes;
+        }
+        return bucket;
+    }
+
+    private static void adapted(final Bucket bucket, final HttpResponse<?> response) {
+        final HttpHeaders headers = response.headers();
+        final Optional<Long> remaining = HttpThrottled.number(headers, "RateLimit-Remaining");
+        final Optional<Long> reset = HttpThrottled.number(headers, "RateLimit-Reset");
+        if (remaining.isPresent()) {
+            bucket.remaining(
+                remaining.get(),
+                reset.map(HttpThrottled::left).orElse(Duration.ofSeconds(1))
+            );
+        }
+        final Optional<Long> retry = HttpThrottled.number(headers, "Retry-After");
+        if (retry.isPresent()) {
+            bucket.pause(Duration.ofSeconds(retry.get()));
+        } else if (response.statusCode() == 429) {
+            bucket.pause(reset.map(HttpThrottled::left).orElse(Duration.ofSeconds(1)));
+        }
+    }
+
+    private static void discarded(final HttpResponse<InputStream> response) {
+        try {
+            response.body().close();
+        } catch (final IOException ignored) {
+            // response is sent again anyway
+        }
+    }
+
+    /**
+     * Time till reset.
+     * Provider sends reset as epoch seconds, small values are taken as seconds left.
+     *
+     * @param reset Header value
+     * @return Time left
+     */
+    private static Duration left(final long reset) {
+        final Duration left;
+        if (reset > Duration.ofDays(365).toSeconds()) {
+            left = Duration.between(Instant.now(), Instant.ofEpochSecond(reset));
+        } else {
+            left = Duration.ofSeconds(reset);
+        }
+        final Duration positive;
+        if (left.isNegative()) {
+            positive = Duration.ZERO;
+        } else {
+            positive = left;
+        }
+        return positive;
+    }
+
+    private static Optional<Long> number(final HttpHeaders headers, final String name) {
+        Optional<Long> number;
+        try {
+            number = headers.firstValue(name).map(String::trim).map(Long::parseLong);
+        } catch (final NumberFormatException exception) {
+            number = Optional.empty();
+        }
+        return number;
+    }
+}
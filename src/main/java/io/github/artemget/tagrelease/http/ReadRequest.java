@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Request marked as read, which does not change state of provider.
+ * GET and HEAD requests are reads already, other ones, like graphql query
+ * sent by POST, are marked by caller. Reads are throttled by bucket of reads
+ * and retried. Request rebuilt from this one is not marked.
+ *
+ * @since 0.1.0
+ */
+public final class ReadRequest extends HttpRequest {
+    /**
+     * Origin request.
+     */
+    private final HttpRequest origin;
+
+    /**
+     * Main ctor.
+     *
+     * @param origin Origin request
+     */
+    public ReadRequest(final HttpRequest origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Whether request does not change state of provider.
+     *
+     * @param request Request
+     * @return True for GET, HEAD and marked requests
+     */
+    public static boolean read(final HttpRequest request) {
+        return request instanceof ReadRequest
+            || "GET".equals(request.method())
+            || "HEAD".equals(request.method());
+    }
+
+    @Override
+    public Optional<BodyPublisher> bodyPublisher() {
+        return this.origin.bodyPublisher();
+    }
+
+    @Override
+    public String method() {
+        return this.origin.method();
+    }
+
+    @Override
+    public Optional<Duration> timeout() {
+        return this.origin.timeout();
+    }
+
+    @Override
+    public boolean expectContinue() {
+        return this.origin.expectContinue();
+    }
+
+    @Override
+    public URI uri() {
+        return this.origin.uri();
+    }
+
+    @Override
+    public Optional<HttpClient.Version> version() {
+        return this.origin.version();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return this.origin.headers();
+    }
+}
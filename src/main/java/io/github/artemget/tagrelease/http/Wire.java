@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bytes of response bodies by endpoint.
+ * Endpoint is request method with path, where ids and file paths are replaced
+ * by placeholders, so all requests of one kind are counted together.
+ *
+ * @since 0.1.0
+ */
+public final class Wire {
+    /**
+     * Traffic by endpoint.
+     */
+    private final Map<String, Traffic> traffic;
+
+    /**
+     * Main ctor.
+     */
+    public Wire() {
+        this.traffic = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Counters of endpoint.
+     *
+     * @param method Request method
+     * @param path Request path
+     * @return Counters
+     */
+    public Traffic endpoint(final String method, final String path) {
+        return this.traffic.computeIfAbsent(
+            String.format(
+                "%s %s",
+                method,
+                path.replaceAll("/files/[^/]+", "/files/:path")
+                    .replaceAll("/blobs/[^/]+", "/blobs/:sha")
+                    .replaceAll("/\\d+(?=/|$)", "/:id")
+            ),
+            key -> new Traffic()
+        );
+    }
+
+    /**
+     * Counted endpoints.
+     *
+     * @return Endpoints
+     */
+    public Set<String> endpoints() {
+        return Set.copyOf(this.traffic.keySet());
+    }
+
+    /**
+     * Bytes received over network.
+     *
+     * @param endpoint Counted endpoint
+     * @return Count
+     */
+    public long compressed(final String endpoint) {
+        return this.traffic.getOrDefault(endpoint, new Traffic()).compressed().sum();
+    }
+
+    /**
+     * Bytes of decompressed bodies.
+     *
+     * @param endpoint Counted endpoint
+     * @return Count
+     */
+    public long uncompressed(final String endpoint) {
+        return this.traffic.getOrDefault(endpoint, new Traffic()).uncompressed().sum();
+    }
+
+    /**
+     * Counters of endpoint.
+     *
+     * @param compressed Bytes received over network
+     * @param uncompressed Bytes of decompressed bodies
+     * @since 0.1.0
+     */
+    public record Traffic(LongAdder compressed, LongAdder uncompressed) {
+        /**
+         * Ctor.
+         */
+        public Traffic() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+}
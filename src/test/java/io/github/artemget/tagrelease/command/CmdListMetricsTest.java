@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.command;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.entry.Flights;
+import io.github.artemget.tagrelease.http.Bucket;
+import io.github.artemget.tagrelease.http.Wire;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link CmdListMetrics}.
+ *
+ * @since 0.1.0
+ */
+final class CmdListMetricsTest {
+    @Test
+    void printsCountersOfRequests() throws EntryException, InterruptedException {
+        final Wire wire = new Wire();
+        final Wire.Traffic project = wire.endpoint("GET", "/api/v4/projects/42/repository/tags");
+        project.compressed().add(100);
+        project.uncompressed().add(400);
+        wire.endpoint("POST", "/api/graphql").compressed().add(7);
+        final Etags etags = new Etags();
+        etags.hit();
+        etags.miss();
+        etags.miss();
+        final Flights flights = new Flights();
+        flights.value("key", () -> "value");
+        final Bucket reads = new Bucket(10, 1);
+        reads.acquire();
+        reads.acquire();
+        final String printed = new CmdListMetrics.Printed(
+            wire, etags, flights, reads, new Bucket(10, 1)
+        ).asString();
+        Assertions.assertTrue(
+            printed.startsWith(
+                "Трафик:\n```\nGET /api/v4/projects/:id/repository/tags: 100 / 400 байт\nPOST /api/graphql: 7 / 0 байт\n```"
+            ),
+            printed
+        );
+        Assertions.assertTrue(printed.contains("```\n1 / 2\n```"), printed);
+        Assertions.assertTrue(printed.contains("```\n1 / 0\n```"), printed);
+        Assertions.assertTrue(printed.contains("чтение: 0 / 2 / "), printed);
+        Assertions.assertTrue(printed.contains("запись: 0 / 0 / 0 мс\n```"), printed);
+    }
+}
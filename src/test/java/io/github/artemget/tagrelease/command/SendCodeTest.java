@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.command;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link SendCode}.
+ *
+ * @since 0.1.0
+ */
+final class SendCodeTest {
+    @Test
+    void keepsShortTextInOneChunk() {
+        Assertions.assertEquals(
+            List.of("dev:\n    svc: v1\n"),
+            SendCode.chunks("dev:\n    svc: v1\n", 4089)
+        );
+    }
+
+    @Test
+    void splitsTextByLines() {
+        Assertions.assertEquals(
+            List.of("dev:\nsvc: v1\n", "prod:\n"),
+            SendCode.chunks("dev:\nsvc: v1\nprod:\n", 14)
+        );
+    }
+
+    @Test
+    void splitsLineLongerThanChunk() {
+        Assertions.assertEquals(
+            List.of("abcd", "ef\n", "gh"),
+            SendCode.chunks("abcdef\ngh", 4)
+        );
+    }
+
+    @Test
+    void fitsEveryChunkIntoLimit() {
+        final String text = "service-with-long-name: 1.2.3\n".repeat(1000);
+        final List<String> chunks = SendCode.chunks(text, 4089);
+        Assertions.assertEquals(text, String.join("", chunks));
+        for (final String chunk : chunks) {
+            Assertions.assertTrue(chunk.length() <= 4089, String.valueOf(chunk.length()));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.EntryException;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link ChangelogGl}.
+ *
+ * @since 0.1.0
+ */
+final class ChangelogGlTest {
+    /**
+     * Tag compared with branch.
+     */
+    private static final Tag TAG = new TagEa("1", "4.0", "develop", "base", "", "");
+
+    @Test
+    void listsTitlesOfMergeCommits() throws EntryException {
+        Assertions.assertEquals(
+            "Fix login\nAdd feature\n",
+            new ChangelogGl(
+                tag -> List.of(
+                    new CommitGl("a1", "Feature", "Feature", List.of("base")),
+                    ChangelogGlTest.merge("m1", "Add feature", "base", "a1"),
+                    new CommitGl("b1", "Login", "Login", List.of("m1")),
+                    new CommitGl("b2", "Login again", "Login again", List.of("b1")),
+                    ChangelogGlTest.merge("m2", "Fix login", "m1", "b2")
+                ),
+                tag -> "fallback"
+            ).apply(ChangelogGlTest.TAG)
+        );
+    }
+
+    @Test
+    void fallsBackWhenSquashedMergeIsMixedIn() throws EntryException {
+        Assertions.assertEquals(
+            "fallback",
+            new ChangelogGl(
+                tag -> List.of(
+                    new CommitGl("a1", "Feature", "Feature", List.of("base")),
+                    ChangelogGlTest.merge("m1", "Add feature", "base", "a1"),
+                    new CommitGl("s1", "Squashed fix", "Squashed fix", List.of("m1"))
+                ),
+                tag -> "fallback"
+            ).apply(ChangelogGlTest.TAG)
+        );
+    }
+
+    @Test
+    void fallsBackWithoutMergeCommits() throws EntryException {
+        Assertions.assertEquals(
+            "fallback",
+            new ChangelogGl(
+                tag -> List.of(new CommitGl("s1", "Squashed fix", "Squashed fix", List.of("base"))),
+                tag -> "fallback"
+            ).apply(ChangelogGlTest.TAG)
+        );
+    }
+
+    private static CommitGl merge(
+        final String id,
+        final String title,
+        final String target,
+        final String merged
+    ) {
+        return new CommitGl(
+            id,
+            "Merge branch 'feature' into 'develop'",
+            String.format(
+                "Merge branch 'feature' into 'develop'\n\n%s\n\nSee merge request group/project!1",
+                title
+            ),
+            List.of(target, merged)
+        );
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link JournalFile}.
+ *
+ * @since 0.1.0
+ */
+final class JournalFileTest {
+    @Test
+    void replaysIntentsWithoutOutcome() throws Exception {
+        final Path path = JournalFileTest.path();
+        try (JournalFile journal = new JournalFile(path).replayed()) {
+            journal.intended(new Journal.Key("1", "4.*", "4.0"), "4.1");
+            journal.intended(new Journal.Key("2", "4.*", "4.0"), "4.1");
+            journal.completed(
+                new Journal.Key("2", "4.*", "4.0"),
+                new TagRefGl("4.1", "sha", "2025-01-01T00:00:00Z")
+            );
+        }
+        try (JournalFile journal = new JournalFile(path).replayed()) {
+            Assertions.assertEquals("4.1", journal.pending("1", "4.*").orElseThrow().next());
+            Assertions.assertTrue(journal.pending("2", "4.*").isEmpty());
+        }
+        Assertions.assertEquals(1, Files.readAllLines(path).size());
+    }
+
+    @Test
+    void dropsLineCutByCrash() throws Exception {
+        final Path path = JournalFileTest.path();
+        try (JournalFile journal = new JournalFile(path).replayed()) {
+            journal.intended(new Journal.Key("1", "4.*", "4.0"), "4.1");
+        }
+        Files.write(
+            path,
+            "intent\t2\t4.*".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        try (JournalFile journal = new JournalFile(path).replayed()) {
+            Assertions.assertTrue(journal.pending("2", "4.*").isEmpty());
+            journal.intended(new Journal.Key("3", "4.*", "4.0"), "4.1");
+        }
+        try (JournalFile journal = new JournalFile(path).replayed()) {
+            Assertions.assertTrue(journal.pending("1", "4.*").isPresent());
+            Assertions.assertTrue(journal.pending("3", "4.*").isPresent());
+        }
+    }
+
+    @Test
+    void failsRecordOfFailedBatch() throws Exception {
+        final JournalFile journal = new JournalFile(JournalFileTest.path()).replayed();
+        journal.close();
+        Assertions.assertThrows(
+            DomainException.class,
+            () -> journal.intended(new Journal.Key("1", "4.*", "4.0"), "4.1")
+        );
+        Assertions.assertTrue(journal.pending("1", "4.*").isEmpty());
+    }
+
+    @Test
+    void syncsRecordsOfConcurrentCallers() throws Exception {
+        final Path path = JournalFileTest.path();
+        try (JournalFile journal = new JournalFile(path).replayed();
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<Object>> written = new ArrayList<>();
+            for (int index = 0; index < 100; ++index) {
+                final String project = String.valueOf(index);
+                written.add(
+                    executor.submit(
+                        () -> {
+                            journal.intended(new Journal.Key(project, "4.*", "4.0"), "4.1");
+                            return null;
+                        }
+                    )
+                );
+            }
+            for (final Future<Object> future : written) {
+                future.get();
+            }
+        }
+        try (JournalFile journal = new JournalFile(path).replayed()) {
+            for (int index = 0; index < 100; ++index) {
+                Assertions.assertTrue(journal.pending(String.valueOf(index), "4.*").isPresent());
+            }
+        }
+    }
+
+    private static Path path() throws IOException {
+        return Files.createTempDirectory("journal").resolve("tags.journal");
+    }
+}
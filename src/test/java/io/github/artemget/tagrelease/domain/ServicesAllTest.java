@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link ServicesAll}.
+ *
+ * @since 0.1.0
+ */
+final class ServicesAllTest {
+    @Test
+    void findsServiceByNameInAnyCase() throws DomainException {
+        final List<String> searched = new ArrayList<>(0);
+        Assertions.assertEquals(
+            "2",
+            new ServicesAll(
+                name -> {
+                    searched.add(name);
+                    return Stream.empty();
+                },
+                () -> List.of(new ProjectGl("1", "auth"), new ProjectGl("2", "Billing"))
+            ).service("BILLING").id()
+        );
+        Assertions.assertEquals(List.of(), searched);
+    }
+
+    @Test
+    void resolvesIndexedAndSearchedServices() throws DomainException {
+        final List<String> searched = new ArrayList<>(0);
+        final Services.Resolved resolved = new ServicesAll(
+            name -> {
+                searched.add(name);
+                return Stream.of(new ProjectGl("3", "cart"), new ProjectGl("4", "cart-ui"))
+                    .filter(project -> project.name().startsWith(name));
+            },
+            () -> List.of(new ProjectGl("1", "auth"), new ProjectGl("2", "billing"))
+        ).resolved(List.of("Auth", "cart", "missing"));
+        Assertions.assertEquals(
+            "1:auth,3:cart",
+            resolved.found().stream()
+                .map(service -> String.format("%s:%s", service.id(), service.name()))
+                .collect(Collectors.joining(","))
+        );
+        Assertions.assertEquals(List.of("missing"), resolved.missed());
+        Assertions.assertEquals(List.of("cart", "missing"), searched);
+    }
+
+    @Test
+    void searchesServicesWhenIndexFails() throws DomainException {
+        final Services.Resolved resolved = new ServicesAll(
+            name -> Stream.of(new ProjectGl("1", "auth")),
+            () -> {
+                throw new EntryException("Failed to list projects");
+            }
+        ).resolved(List.of("auth", "billing"));
+        Assertions.assertEquals(1, resolved.found().size());
+        Assertions.assertEquals(List.of("billing"), resolved.missed());
+    }
+
+    @Test
+    void missesServiceFailedAtSearch() throws DomainException {
+        final Services.Resolved resolved = new ServicesAll(
+            name -> {
+                throw new EntryException("Failed to search project");
+            },
+            List::of
+        ).resolved(List.of("auth"));
+        Assertions.assertEquals(List.of(), resolved.found());
+        Assertions.assertEquals(List.of("auth"), resolved.missed());
+    }
+}
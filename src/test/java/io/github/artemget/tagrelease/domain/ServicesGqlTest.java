@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.exception.DomainException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link ServicesGql}.
+ *
+ * @since 0.1.0
+ */
+final class ServicesGqlTest {
+    @Test
+    void requestsAllChunksAtFirstTag() throws Exception {
+        final List<CompletableFuture<Map<String, String>>> chunks = new CopyOnWriteArrayList<>();
+        final List<Service> services = new ServicesGql(
+            () -> List.of(
+                new NodeGl("1", "first", "tree", "first"),
+                new NodeGl("2", "second", "tree", "second"),
+                new NodeGl("3", "third", "tree", "third")
+            ),
+            paths -> {
+                final CompletableFuture<Map<String, String>> chunk = new CompletableFuture<>();
+                chunks.add(chunk);
+                return chunk;
+            },
+            2
+        ).services();
+        Assertions.assertEquals(0, chunks.size());
+        final CompletableFuture<String> tag = CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return services.get(2).tag();
+                } catch (final DomainException exception) {
+                    throw new IllegalStateException(exception);
+                }
+            }
+        );
+        while (chunks.size() < 2) {
+            Thread.onSpinWait();
+        }
+        chunks.get(1).complete(Map.of("third/values.yaml", "image:\n  tag: v3\n"));
+        Assertions.assertEquals("v3", tag.join());
+    }
+
+    @Test
+    void failsOnlyServicesOfFailedChunk() throws Exception {
+        final List<Service> services = new ServicesGql(
+            () -> List.of(
+                new NodeGl("1", "first", "tree", "first"),
+                new NodeGl("2", "second", "tree", "second")
+            ),
+            paths -> {
+                final CompletableFuture<Map<String, String>> chunk;
+                if (paths.contains("first/values.yaml")) {
+                    chunk = CompletableFuture.failedFuture(new EntryException("graphql is down"));
+                } else {
+                    chunk = CompletableFuture.completedFuture(
+                        Map.of("second/values.yaml", "image:\n  tag: v2\n")
+                    );
+                }
+                return chunk;
+            },
+            1
+        ).services();
+        Assertions.assertThrows(DomainException.class, () -> services.get(0).tag());
+        Assertions.assertEquals("v2", services.get(1).tag());
+    }
+}
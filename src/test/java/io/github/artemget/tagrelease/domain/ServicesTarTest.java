@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.tagrelease.entry.Tar;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link ServicesTar}.
+ *
+ * @since 0.1.0
+ */
+final class ServicesTarTest {
+    @Test
+    void walksValuesFilesOfRootServices() throws IOException {
+        final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/", ""));
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/svc/", ""));
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/svc/values.yaml", "image:\n  tag: 1"));
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/svc/env/values.yaml", "image:\n  tag: 2"));
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/other/", ""));
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/_common/", ""));
+        archive.writeBytes(ServicesTarTest.entry("proj-sha/_common/values.yaml", "image:\n  tag: 3"));
+        archive.writeBytes(new byte[1024]);
+        Assertions.assertEquals(
+            Map.of("other", Optional.empty(), "svc", Optional.of("image:\n  tag: 1")),
+            ServicesTar.walked(new Tar(new ByteArrayInputStream(archive.toByteArray())))
+        );
+    }
+
+    @Test
+    void loadsArchiveOnce() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final ServicesTar services = new ServicesTar(
+            () -> {
+                loads.incrementAndGet();
+                return Map.of("svc", Optional.of("image:\n  tag: 1"));
+            }
+        );
+        services.services();
+        services.service("svc");
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    private static byte[] entry(final String name, final String content) {
+        final byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        final byte[] entry = new byte[512 + (data.length + 511) / 512 * 512];
+        final byte[] named = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(named, 0, entry, 0, named.length);
+        final byte[] size = String.format("%011o", data.length).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(size, 0, entry, 124, size.length);
+        if (name.endsWith("/")) {
+            entry[156] = '5';
+        } else {
+            entry[156] = '0';
+        }
+        System.arraycopy(data, 0, entry, 512, data.length);
+        return entry;
+    }
+}
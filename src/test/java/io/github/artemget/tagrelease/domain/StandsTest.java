@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.EntryException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Stands}.
+ *
+ * @since 0.1.0
+ */
+final class StandsTest {
+    @Test
+    void fetchesTagsOfAllStandsUnderSharedLimit() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final List<NodeGl> nodes = new ArrayList<>();
+        for (int index = 0; index < 10; ++index) {
+            nodes.add(new NodeGl(String.valueOf(index), "svc" + index, "tree", "svc" + index));
+            nodes.add(
+                new NodeGl(
+                    "sha" + index, "values.yaml", "blob", String.format("svc%d/values.yaml", index)
+                )
+            );
+        }
+        final List<Stand> stands = new ArrayList<>();
+        for (int index = 0; index < 4; ++index) {
+            stands.add(
+                new StandGl(
+                    "stand" + index,
+                    "head",
+                    () -> new ServicesGl(
+                        () -> nodes,
+                        blob -> {
+                            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            try {
+                                LockSupport.parkNanos(Duration.ofMillis(5).toNanos());
+                            } finally {
+                                running.decrementAndGet();
+                            }
+                            return "tag".concat(blob.id());
+                        }
+                    )
+                )
+            );
+        }
+        final String overview = new Stands.Overview(
+            new Stands() {
+                @Override
+                public List<Stand> stands() {
+                    return stands;
+                }
+
+                @Override
+                public Stand stand(final String name) {
+                    throw new UnsupportedOperationException(name);
+                }
+            },
+            3,
+            Duration.ofSeconds(10)
+        ).asString();
+        Assertions.assertTrue(peak.get() <= 3, String.valueOf(peak.get()));
+        Assertions.assertTrue(overview.contains("stand3:\n    svc0: tagsha0\n"), overview);
+        Assertions.assertTrue(overview.contains("    svc9: tagsha9\n"), overview);
+    }
+
+    @Test
+    void printsFetchedTagsOfStand() throws Exception {
+        final String printed = new Stand.Printed(
+            new StandGl(
+                "dev",
+                "head",
+                () -> new ServicesGl(
+                    () -> List.of(
+                        new NodeGl("1", "svc", "tree", "svc"),
+                        new NodeGl("sha", "values.yaml", "blob", "svc/values.yaml")
+                    ),
+                    blob -> "tag".concat(blob.id())
+                )
+            ),
+            2,
+            Duration.ofSeconds(10)
+        ).asString();
+        Assertions.assertTrue(printed.contains("Стенд: `dev`"), printed);
+        Assertions.assertTrue(printed.contains("svc:tagsha"), printed);
+    }
+
+    @Test
+    void printsServiceFailedAtBothStands() throws Exception {
+        final List<NodeGl> nodes = List.of(
+            new NodeGl("1", "broken", "tree", "broken"),
+            new NodeGl("sha1", "values.yaml", "blob", "broken/values.yaml"),
+            new NodeGl("2", "kept", "tree", "kept"),
+            new NodeGl("sha2", "values.yaml", "blob", "kept/values.yaml")
+        );
+        final String diff = new Stand.Diff(
+            new StandGl("dev", "head", () -> new ServicesGl(() -> nodes, StandsTest::tag)),
+            new StandGl("prod", "head", () -> new ServicesGl(() -> nodes, StandsTest::tag)),
+            2,
+            Duration.ofSeconds(10)
+        ).asString();
+        Assertions.assertEquals("dev -> prod\n! broken: <ошибка>\n", diff);
+    }
+
+    private static String tag(final NodeGl blob) throws EntryException {
+        if ("sha1".equals(blob.id())) {
+            throw new EntryException("values file is broken");
+        }
+        return "v1";
+    }
+}
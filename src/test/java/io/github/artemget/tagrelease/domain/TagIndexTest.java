@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.entry.Etags;
+import io.github.artemget.tagrelease.http.FkResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link TagIndex}.
+ *
+ * @since 0.1.0
+ */
+final class TagIndexTest {
+    @Test
+    void findsLatestTagsOfPrefix() throws EntryException {
+        final List<String> names = List.of("4.3.1.9", "4.3.10.0", "4.3.1.10", "4.3.2.0", "v4.3.1.11");
+        Assertions.assertEquals(
+            List.of("4.3.1.10", "4.3.1.9"),
+            new TagIndex(project -> names.stream().map(TagIndexTest::tag))
+                .latest("1", "4.3.1.*", 3)
+                .stream().map(TagRefGl::name).toList()
+        );
+    }
+
+    @Test
+    void findsTagOfOldCommitAfterPeriod() throws EntryException {
+        final List<String> names = new ArrayList<>(List.of("4.3.1.1", "4.3.1.0"));
+        final TagIndex index = new TagIndex(
+            project -> names.stream().map(TagIndexTest::tag),
+            Duration.ZERO
+        );
+        index.latest("1", "4.3.1.*", 1);
+        names.add("4.3.1.2");
+        Assertions.assertEquals(
+            "4.3.1.2",
+            index.latest("1", "4.3.1.*", 1).get(0).name()
+        );
+    }
+
+    @Test
+    void fetchesOnlyNewestTagsWithinPeriod() throws EntryException {
+        final List<String> names = new ArrayList<>(List.of("4.3.1.1", "4.3.1.0"));
+        final TagIndex index = new TagIndex(
+            project -> names.stream().map(TagIndexTest::tag),
+            Duration.ofHours(1)
+        );
+        index.latest("1", "4.3.1.*", 1);
+        names.add(0, "4.3.1.3");
+        names.add("4.3.1.2");
+        Assertions.assertEquals(
+            List.of("4.3.1.3", "4.3.1.1"),
+            index.latest("1", "4.3.1.*", 2).stream().map(TagRefGl::name).toList()
+        );
+    }
+
+    @Test
+    void requestsOnlyFirstPageAtIncrementalFetch() throws EntryException {
+        final AtomicInteger requests = new AtomicInteger();
+        final TagIndex index = new TagIndex(
+            request -> {
+                requests.incrementAndGet();
+                final FkResponse response;
+                if (request.uri().getQuery().contains("page=2")) {
+                    response = new FkResponse(request, 200, Map.of(), TagIndexTest.json("4.3.1.0"));
+                } else {
+                    response = new FkResponse(
+                        request,
+                        200,
+                        Map.of(
+                            "Link",
+                            List.of(
+                                String.format(
+                                    "<%s&page=2>; rel=\"next\"", request.uri()
+                                )
+                            )
+                        ),
+                        TagIndexTest.json("4.3.1.1")
+                    );
+                }
+                return response;
+            },
+            new Etags(0),
+            () -> "https://gitlab.local",
+            () -> "token"
+        );
+        index.latest("1", "4.3.1.*", 1);
+        Assertions.assertEquals(2, requests.get());
+        index.latest("1", "4.3.1.*", 1);
+        LockSupport.parkNanos(Duration.ofMillis(100).toNanos());
+        Assertions.assertEquals(3, requests.get());
+    }
+
+    private static String json(final String name) {
+        return String.format(
+            "[{\"name\":\"%s\",\"commit\":{\"id\":\"sha\",\"created_at\":\"now\"}}]",
+            name
+        );
+    }
+
+    private static TagRefGl tag(final String name) {
+        return new TagRefGl(name, "commit", "created");
+    }
+}
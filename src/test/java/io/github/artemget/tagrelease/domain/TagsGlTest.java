@@ -24,6 +24,9 @@
 
 package io.github.artemget.tagrelease.domain;
 
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -108,4 +111,38 @@ class TagsGlTest {
             TagsGl.next("10.3.1.0", "*")
         );
     }
+
+    @Test
+    void returnsIncrementedAfterPrefixWithDigit() {
+        Assertions.assertEquals(
+            "svc-v2.6",
+            TagsGl.next("svc-v2.5", "svc-v2.*")
+        );
+    }
+
+    @Test
+    void returnsIncrementedWithZeroPadding() {
+        Assertions.assertEquals(
+            "2024.02.00",
+            TagsGl.next("2024.01.09", "2024.*")
+        );
+    }
+
+    @Test
+    void cutsLongMessageByWholeCharacters() {
+        final String message = TagsGl.encoded("Изменения:\n".concat("фикс бага\n".repeat(500)), 5000);
+        Assertions.assertTrue(message.length() <= 5000, String.valueOf(message.length()));
+        Assertions.assertDoesNotThrow(
+            () -> URI.create(String.format("https://gitlab.local/tags?message=%s", message))
+        );
+        Assertions.assertTrue(
+            URLDecoder.decode(message, StandardCharsets.UTF_8).endsWith("\n..."),
+            message
+        );
+    }
+
+    @Test
+    void keepsShortMessageWhole() {
+        Assertions.assertEquals("fix+bug%0A", TagsGl.encoded("fix bug\n", 5000));
+    }
 }
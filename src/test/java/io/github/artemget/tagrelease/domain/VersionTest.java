@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Version}.
+ * Rules are checked on every name built of small set of parts.
+ *
+ * @since 0.1.0
+ */
+final class VersionTest {
+    /**
+     * Every name built of prefixes, up to 3 numbers and suffixes.
+     */
+    private static final List<String> NAMES = VersionTest.names(
+        new String[] {"", "v", "release-"},
+        new String[] {"0", "1", "09", "10", "3000000000"},
+        new String[] {"", "_bla_bla", "-rc1", "-rc.2"}
+    );
+
+    @Test
+    void bumpsAsTagsOfPrefix() {
+        final String[][] cases = {
+            {"4.3.1.0", "4.3.1.*", "4.3.1.1"},
+            {"v4.3.1.0", "v4.3.1.*", "v4.3.1.1"},
+            {"v4.3.1.0_bla_bla", "v4.3.1.*", "v4.3.1.1_bla_bla"},
+            {"4.3.1.10", "4.3.1.*", "4.3.1.11"},
+            {"4.3.1.0", "4.3.*", "4.3.2.0"},
+            {"4.3.10.0", "4.3.*", "4.3.11.0"},
+            {"4.3.1.0", "4.*", "4.4.0.0"},
+            {"4.3.1.0", "*", "5.0.0.0"},
+            {"9.3.1.0", "*", "10.0.0.0"},
+            {"10.3.1.0", "*", "11.0.0.0"},
+            {"4.3.10.0", "4.*", "4.4.00.0"},
+            {"app2-4.3.1.0", "app2-4.3.*", "app2-4.3.2.0"},
+            {"app2-5", "app2-*", "app2-6"},
+            {"svc-v2.5", "svc-v2.*", "svc-v2.6"},
+            {"2024.01.09", "2024.01.*", "2024.01.10"},
+            {"2024.01.09", "2024.*", "2024.02.00"},
+            {"1.2.5-rc1", "1.2.*", "1.2.6-rc0"},
+            {"1.2.5-rc.2", "1.*", "1.3.0-rc.0"},
+            {"1.2.10", "1.2.1*", "1.2.11"},
+            {"v15", "v1*", "v16"},
+        };
+        for (final String[] sample : cases) {
+            Assertions.assertEquals(
+                sample[2],
+                Version.parsed(sample[0], sample[1]).bumped(Version.fixed(sample[1])).toString(),
+                String.format("Bump of %s by %s", sample[0], sample[1])
+            );
+        }
+    }
+
+    @Test
+    void printsParsedName() {
+        for (final String name : VersionTest.NAMES) {
+            Assertions.assertEquals(name, Version.parsed(name).toString());
+        }
+    }
+
+    @Test
+    void parsesVersionAfterPrefixDigits() {
+        final Version version = Version.parsed("app2-4.3.1", "app2-*");
+        Assertions.assertEquals("app2-", version.prefix());
+        Assertions.assertEquals(3, version.components());
+        Assertions.assertEquals(4, version.component(0));
+    }
+
+    @Test
+    void keepsWidthOfZeroPaddedNumbers() {
+        final Version version = Version.parsed("2024.01.09");
+        Assertions.assertEquals(1, version.component(1));
+        Assertions.assertEquals(2, version.width(1));
+        Assertions.assertEquals("2024.01.09", version.toString());
+        Assertions.assertTrue(version.compareTo(Version.parsed("2024.01.10")) < 0);
+    }
+
+    @Test
+    void parsesComponentsAboveInteger() {
+        final Version version = Version.parsed("v3000000000.1");
+        Assertions.assertEquals(3_000_000_000L, version.component(0));
+        Assertions.assertEquals("v3000000001.0", version.bumped(0).toString());
+    }
+
+    @Test
+    void ordersReleaseAfterItsSuffixed() {
+        final List<Version> versions = new ArrayList<>(
+            List.of(
+                Version.parsed("1.2.5"),
+                Version.parsed("1.2.6-rc1"),
+                Version.parsed("1.2.5-rc2"),
+                Version.parsed("1.2.5-rc1"),
+                Version.parsed("1.2.4")
+            )
+        );
+        versions.sort(Comparator.naturalOrder());
+        Assertions.assertEquals(
+            List.of("1.2.4", "1.2.5-rc1", "1.2.5-rc2", "1.2.5", "1.2.6-rc1"),
+            versions.stream().map(Version::toString).toList()
+        );
+    }
+
+    @Test
+    void bumpsOnlyComponentAtPosition() {
+        for (final String name : VersionTest.NAMES) {
+            final Version version = Version.parsed(name);
+            for (int index = 0; index < version.components(); ++index) {
+                final Version bumped = version.bumped(index);
+                Assertions.assertEquals(version.components(), bumped.components(), name);
+                Assertions.assertEquals(version.prefix(), bumped.prefix(), name);
+                Assertions.assertEquals(version.suffix().replaceAll("[0-9]", "0"), bumped.suffix(), name);
+                for (int position = 0; position < index; ++position) {
+                    Assertions.assertEquals(version.component(position), bumped.component(position), name);
+                }
+                Assertions.assertEquals(version.component(index) + 1, bumped.component(index), name);
+                for (int position = index + 1; position < bumped.components(); ++position) {
+                    Assertions.assertEquals(0, bumped.component(position), name);
+                }
+                for (int position = 0; position < bumped.components(); ++position) {
+                    if (position == index) {
+                        Assertions.assertTrue(bumped.width(position) >= version.width(position), name);
+                    } else {
+                        Assertions.assertEquals(version.width(position), bumped.width(position), name);
+                    }
+                }
+                Assertions.assertEquals(bumped, Version.parsed(bumped.toString()), name);
+                Assertions.assertTrue(bumped.compareTo(version) > 0, bumped.toString());
+            }
+        }
+    }
+
+    @Test
+    void ordersAsNumbers() {
+        final List<long[]> numbers = new ArrayList<>(VersionTest.NAMES.size());
+        final List<Version> versions = new ArrayList<>(VersionTest.NAMES.size());
+        for (final String name : VersionTest.NAMES) {
+            final Version version = Version.parsed(name);
+            if (version.prefix().isEmpty() && version.suffix().isEmpty()) {
+                final long[] components = new long[version.components()];
+                for (int index = 0; index < components.length; ++index) {
+                    components[index] = version.component(index);
+                }
+                numbers.add(components);
+                versions.add(version);
+            }
+        }
+        numbers.sort(Arrays::compare);
+        versions.sort(Comparator.naturalOrder());
+        for (int sample = 0; sample < versions.size(); ++sample) {
+            final long[] components = numbers.get(sample);
+            final Version version = versions.get(sample);
+            Assertions.assertEquals(components.length, version.components());
+            for (int index = 0; index < components.length; ++index) {
+                Assertions.assertEquals(components[index], version.component(index));
+            }
+        }
+    }
+
+    @Test
+    void comparesConsistentlyWithEquals() {
+        final List<Version> versions = VersionTest.NAMES.stream().map(Version::parsed).toList();
+        for (final Version first : versions) {
+            for (final Version second : versions) {
+                Assertions.assertEquals(
+                    Integer.signum(first.compareTo(second)),
+                    -Integer.signum(second.compareTo(first))
+                );
+                Assertions.assertEquals(first.compareTo(second) == 0, first.equals(second));
+            }
+        }
+    }
+
+    private static List<String> names(
+        final String[] prefixes,
+        final String[] numbers,
+        final String[] suffixes
+    ) {
+        final List<String> versions = new ArrayList<>();
+        List<String> last = List.of("");
+        for (int count = 1; count <= 3; ++count) {
+            final List<String> longer = new ArrayList<>(last.size() * numbers.length);
+            for (final String version : last) {
+                for (final String number : numbers) {
+                    if (version.isEmpty()) {
+                        longer.add(number);
+                    } else {
+                        longer.add(String.format("%s.%s", version, number));
+                    }
+                }
+            }
+            versions.addAll(longer);
+            last = longer;
+        }
+        final List<String> names = new ArrayList<>(versions.size() * prefixes.length * suffixes.length);
+        for (final String prefix : prefixes) {
+            for (final String version : versions) {
+                for (final String suffix : suffixes) {
+                    names.add(prefix.concat(version).concat(suffix));
+                }
+            }
+        }
+        return names;
+    }
+}
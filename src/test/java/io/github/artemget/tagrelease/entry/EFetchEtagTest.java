@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.tagrelease.http.FkResponse;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link EFetchEtag}.
+ *
+ * @since 0.1.0
+ */
+final class EFetchEtagTest {
+    @Test
+    void returnsCachedValueAtNotModified() throws EntryException {
+        final AtomicInteger parsed = new AtomicInteger();
+        final Etags etags = new Etags();
+        final EFetchEtag<String> fetch = new EFetchEtag<>(
+            EFetchEtagTest.tagged(),
+            EFetchEtagTest.request(),
+            response -> {
+                parsed.incrementAndGet();
+                return EFetchEtagTest.text(response);
+            },
+            etags
+        );
+        Assertions.assertEquals("body", fetch.value());
+        Assertions.assertEquals("body", fetch.value());
+        Assertions.assertEquals(1, parsed.get());
+        Assertions.assertEquals(1, etags.hits());
+        Assertions.assertEquals(1, etags.misses());
+    }
+
+    @Test
+    void fetchesInFullAfterEviction() throws EntryException {
+        final AtomicInteger parsed = new AtomicInteger();
+        final Etags etags = new Etags(1);
+        final EFunc<HttpResponse<InputStream>, String> counted = response -> {
+            parsed.incrementAndGet();
+            return EFetchEtagTest.text(response);
+        };
+        final Http http = EFetchEtagTest.tagged();
+        new EFetchEtag<>(http, EFetchEtagTest.request(), counted, etags).value();
+        new EFetchEtag<>(
+            http,
+            HttpRequest.newBuilder(URI.create("https://gitlab.local/api/v4/groups")).GET().build(),
+            counted,
+            etags
+        ).value();
+        new EFetchEtag<>(http, EFetchEtagTest.request(), counted, etags).value();
+        Assertions.assertEquals(3, parsed.get());
+        Assertions.assertEquals(0, etags.hits());
+    }
+
+    @Test
+    void failsAtNotModifiedWithoutCachedValue() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EFetchEtag<>(
+                request -> new FkResponse(request, 304),
+                EFetchEtagTest.request(),
+                EFetchEtagTest::text,
+                new Etags()
+            ).value()
+        );
+    }
+
+    /**
+     * Transport answering not modified to request with etag of body.
+     *
+     * @return Transport
+     */
+    private static Http tagged() {
+        return request -> {
+            final FkResponse response;
+            if (request.headers().firstValue("If-None-Match").filter("\"v1\""::equals).isPresent()) {
+                response = new FkResponse(request, 304);
+            } else {
+                response = new FkResponse(request, 200, Map.of("ETag", List.of("\"v1\"")), "body");
+            }
+            return response;
+        };
+    }
+
+    private static HttpRequest request() {
+        return HttpRequest.newBuilder(URI.create("https://gitlab.local/api/v4/projects")).GET().build();
+    }
+
+    private static String text(final HttpResponse<InputStream> response) throws EntryException {
+        try (InputStream body = response.body()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new EntryException("Failed to read body", exception);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import io.github.artemget.tagrelease.http.FkResponse;
+import io.github.artemget.tagrelease.http.Http;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link EFetchPages}.
+ *
+ * @since 0.1.0
+ */
+final class EFetchPagesTest {
+    @Test
+    void readsAllPagesInOrder() throws EntryException {
+        try (Stream<String> items = new EFetchPages<>(
+            EFetchPagesTest.pages(new AtomicInteger(), 0),
+            EFetchPagesTest.first(),
+            EFetchPagesTest::items
+        ).value()) {
+            Assertions.assertEquals(
+                "a1,b1,a2,b2,a3,b3",
+                items.collect(Collectors.joining(","))
+            );
+        }
+    }
+
+    @Test
+    void requestsNextPageBeforeCurrentIsConsumed() throws EntryException {
+        final AtomicInteger sent = new AtomicInteger();
+        try (Stream<String> items = new EFetchPages<>(
+            EFetchPagesTest.pages(sent, 0),
+            EFetchPagesTest.first(),
+            EFetchPagesTest::items,
+            new Etags(0),
+            true,
+            Runnable::run
+        ).value()) {
+            Assertions.assertEquals(2, sent.get());
+            final Iterator<String> iterator = items.iterator();
+            iterator.next();
+            iterator.next();
+            Assertions.assertEquals(2, sent.get());
+            iterator.next();
+            Assertions.assertEquals(3, sent.get());
+        }
+    }
+
+    @Test
+    void requestsNoNextPageWhenHeadIsTakenWithoutAdvance() throws EntryException {
+        final AtomicInteger sent = new AtomicInteger();
+        try (Stream<String> items = new EFetchPages<>(
+            EFetchPagesTest.pages(sent, 0),
+            EFetchPagesTest.first(),
+            EFetchPagesTest::items,
+            new Etags(0),
+            false,
+            Runnable::run
+        ).value()) {
+            Assertions.assertEquals("a1", items.findFirst().orElseThrow());
+        }
+        Assertions.assertEquals(1, sent.get());
+    }
+
+    @Test
+    void skipsQueuedNextPageAfterClose() throws EntryException {
+        final AtomicInteger sent = new AtomicInteger();
+        final List<Runnable> queued = new ArrayList<>(1);
+        try (Stream<String> items = new EFetchPages<>(
+            EFetchPagesTest.pages(sent, 0),
+            EFetchPagesTest.first(),
+            EFetchPagesTest::items,
+            new Etags(0),
+            true,
+            queued::add
+        ).value()) {
+            Assertions.assertEquals("a1", items.findFirst().orElseThrow());
+        }
+        queued.forEach(Runnable::run);
+        Assertions.assertEquals(1, sent.get());
+    }
+
+    @Test
+    void failsWhileConsumedAtFailedNextPage() throws EntryException {
+        try (Stream<String> items = new EFetchPages<>(
+            EFetchPagesTest.pages(new AtomicInteger(), 2),
+            EFetchPagesTest.first(),
+            EFetchPagesTest::items,
+            new Etags(0),
+            true,
+            Runnable::run
+        ).value()) {
+            final Iterator<String> iterator = items.iterator();
+            iterator.next();
+            iterator.next();
+            Assertions.assertThrows(EntryExceptionUnchecked.class, iterator::next);
+        }
+    }
+
+    @Test
+    void failsAtFailedFirstPage() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EFetchPages<>(
+                EFetchPagesTest.pages(new AtomicInteger(), 1),
+                EFetchPagesTest.first(),
+                EFetchPagesTest::items
+            ).value()
+        );
+    }
+
+    private static HttpRequest first() {
+        return HttpRequest.newBuilder(URI.create("https://scm.local/items?page=1")).GET().build();
+    }
+
+    /**
+     * Three pages linked by Link header.
+     *
+     * @param sent Count of sent requests
+     * @param failed Number of failed page, 0 if none
+     * @return Transport
+     */
+    private static Http pages(final AtomicInteger sent, final int failed) {
+        return request -> {
+            sent.incrementAndGet();
+            final int page = Integer.parseInt(request.uri().getQuery().replace("page=", ""));
+            final FkResponse response;
+            if (page == failed) {
+                response = new FkResponse(request, 500);
+            } else if (page < 3) {
+                response = new FkResponse(
+                    request,
+                    200,
+                    Map.of(
+                        "Link",
+                        List.of(String.format("<https://scm.local/items?page=%d>; rel=\"next\"", page + 1))
+                    ),
+                    String.format("a%1$d,b%1$d", page)
+                );
+            } else {
+                response = new FkResponse(request, 200, Map.of(), String.format("a%1$d,b%1$d", page));
+            }
+            return response;
+        };
+    }
+
+    private static List<String> items(final HttpResponse<InputStream> response)
+        throws EntryException {
+        try (InputStream body = response.body()) {
+            return List.of(new String(body.readAllBytes(), StandardCharsets.UTF_8).split(","));
+        } catch (final IOException exception) {
+            throw new EntryException("Failed to read page", exception);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link EFetchShared}.
+ *
+ * @since 0.1.0
+ */
+final class EFetchSharedTest {
+    @Test
+    void sharesGetRequestInFlight() throws InterruptedException {
+        final Flights flights = new Flights();
+        final HttpRequest request = HttpRequest.newBuilder(
+            URI.create("https://gitlab.local/api/v4/projects")
+        ).GET().build();
+        final AtomicInteger sent = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch landed = new CountDownLatch(1);
+        final Entry<String> origin = () -> {
+            sent.incrementAndGet();
+            started.countDown();
+            try {
+                landed.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new EntryException("Interrupted in flight", exception);
+            }
+            return "value";
+        };
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<String> lead = EFetchSharedTest.fetched(
+                new EFetchShared<>(request, origin, flights), threads
+            );
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final CompletableFuture<String> joined = EFetchSharedTest.fetched(
+                new EFetchShared<>(request, origin, flights), threads
+            );
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.joins() < 1 && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            landed.countDown();
+            Assertions.assertEquals("value", lead.join());
+            Assertions.assertEquals("value", joined.join());
+        } finally {
+            threads.shutdownNow();
+        }
+        Assertions.assertEquals(1, sent.get());
+        Assertions.assertEquals(1, flights.leads());
+        Assertions.assertEquals(1, flights.joins());
+    }
+
+    @Test
+    void sendsPostRequestPastFlights() throws EntryException {
+        final Flights flights = new Flights();
+        Assertions.assertEquals(
+            "value",
+            new EFetchShared<>(
+                HttpRequest.newBuilder(URI.create("https://gitlab.local/api/graphql"))
+                    .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                    .build(),
+                () -> "value",
+                flights
+            ).value()
+        );
+        Assertions.assertEquals(0, flights.leads());
+    }
+
+    private static CompletableFuture<String> fetched(
+        final EFetchShared<String> fetch,
+        final ExecutorService threads
+    ) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return fetch.value();
+                } catch (final EntryException exception) {
+                    throw new EntryExceptionUnchecked(exception);
+                }
+            },
+            threads
+        );
+    }
+}
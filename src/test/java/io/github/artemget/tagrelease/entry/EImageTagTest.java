@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.IOException;
+import java.io.Reader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link EImageTag}.
+ *
+ * @since 0.1.0
+ */
+final class EImageTagTest {
+    @Test
+    void readsTagOfTopLevelImage() throws EntryException {
+        Assertions.assertEquals(
+            "v1.2.3",
+            new EImageTag(
+                """
+                    ---
+                    app:
+                      image:
+                        tag: nested
+                    image: # comment
+                        repository: registry/app
+                        resources:
+                          tag: deeper
+                        tag: v1.2.3 # comment
+                    replicas: 2
+                    """
+            ).value()
+        );
+    }
+
+    @Test
+    void readsQuotedTag() throws EntryException {
+        Assertions.assertEquals(
+            "it's \"v1\"",
+            new EImageTag("image:\r\n  tag: 'it''s \"v1\"'\r\n").value()
+        );
+    }
+
+    @Test
+    void readsTagWithColon() throws EntryException {
+        Assertions.assertEquals(
+            "1.0.0-rc:1",
+            new EImageTag("\"image\":\n  \"tag\": \"1.0.0-rc:1\"\n").value()
+        );
+    }
+
+    @Test
+    void parsesFlowStyleImage() throws EntryException {
+        Assertions.assertEquals(
+            "v1.2.3",
+            new EImageTag("replicas: 2\nimage: {repository: registry/app, tag: v1.2.3}\n").value()
+        );
+    }
+
+    @Test
+    void parsesQuotedAndCommentedTagOfFlowStyleImage() throws EntryException {
+        Assertions.assertEquals(
+            "v1.2.3",
+            new EImageTag("image: {tag: \"v1.2.3\"} # pinned release\n").value()
+        );
+    }
+
+    @Test
+    void readsFlowStyleImageWithQuotedComma() throws EntryException {
+        Assertions.assertEquals(
+            "v1",
+            new EImageTag("image: {repository: \"registry/a,b\", 'tag': 'v1'}\n").value()
+        );
+    }
+
+    @Test
+    void throwsAtTagOutsideImage() {
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new EImageTag("tag: v1.2.3\nimage:\n  repository: registry/app\n").value()
+        );
+    }
+
+    @Test
+    void stopsReadingAfterTag() throws EntryException {
+        final String content = "image:\n  tag: v1.2.3\nreplicas: 2\nunread: true\n";
+        final int end = content.indexOf("unread");
+        Assertions.assertEquals(
+            "v1.2.3",
+            new EImageTag(
+                () -> new Reader() {
+                    private int position;
+
+                    @Override
+                    public int read(final char[] chars, final int off, final int len)
+                        throws IOException {
+                        if (this.position >= end) {
+                            throw new IOException("Read after tag");
+                        }
+                        chars[off] = content.charAt(this.position);
+                        ++this.position;
+                        return 1;
+                    }
+
+                    @Override
+                    public void close() {
+                        // nothing to release
+                    }
+                }
+            ).value()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link ERefreshed}.
+ *
+ * @since 0.1.0
+ */
+final class ERefreshedTest {
+    @Test
+    void returnsKeptValueWithinPeriod() throws EntryException {
+        final AtomicInteger loads = new AtomicInteger();
+        final Entry<Integer> refreshed = new ERefreshed<>(
+            loads::incrementAndGet,
+            Duration.ofMinutes(1)
+        );
+        refreshed.value();
+        refreshed.value();
+        Assertions.assertEquals(Integer.valueOf(1), refreshed.value());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void keepsStaleValueAndWaitsPeriodAfterFailedReload() throws EntryException {
+        final AtomicInteger loads = new AtomicInteger();
+        final Entry<String> refreshed = new ERefreshed<>(
+            () -> {
+                if (loads.incrementAndGet() > 1) {
+                    throw new EntryException("origin is down");
+                }
+                return "loaded";
+            },
+            Duration.ofMillis(200)
+        );
+        refreshed.value();
+        LockSupport.parkNanos(Duration.ofMillis(250).toNanos());
+        Assertions.assertEquals("loaded", refreshed.value());
+        while (loads.get() < 2) {
+            Thread.onSpinWait();
+        }
+        LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+        for (int call = 0; call < 5; ++call) {
+            Assertions.assertEquals("loaded", refreshed.value());
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+        Assertions.assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Etags}.
+ *
+ * @since 0.1.0
+ */
+final class EtagsTest {
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final Etags etags = new Etags(2);
+        etags.put("first", "\"1\"", "one");
+        etags.put("second", "\"2\"", "two");
+        etags.tagged("first");
+        etags.put("third", "\"3\"", "three");
+        Assertions.assertEquals("one", etags.tagged("first").orElseThrow().value());
+        Assertions.assertTrue(etags.tagged("second").isEmpty());
+        Assertions.assertEquals("\"3\"", etags.tagged("third").orElseThrow().etag());
+    }
+
+    @Test
+    void keepsNothingWithoutCapacity() {
+        final Etags etags = new Etags(0);
+        etags.put("first", "\"1\"", "one");
+        Assertions.assertTrue(etags.tagged("first").isEmpty());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.Entry;
+import io.github.artemget.entrys.EntryException;
+import io.github.artemget.entrys.EntryExceptionUnchecked;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Flights}.
+ *
+ * @since 0.1.0
+ */
+final class FlightsTest {
+    @Test
+    void computesValueOnceForConcurrentCallers() throws InterruptedException {
+        final Flights flights = new Flights();
+        final AtomicInteger computed = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch landed = new CountDownLatch(1);
+        final Entry<String> origin = () -> {
+            computed.incrementAndGet();
+            started.countDown();
+            FlightsTest.await(landed);
+            return "value";
+        };
+        final ExecutorService threads = Executors.newFixedThreadPool(3);
+        try {
+            final CompletableFuture<String> lead = FlightsTest.value(flights, origin, threads);
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final List<CompletableFuture<String>> joined = List.of(
+                FlightsTest.value(flights, origin, threads),
+                FlightsTest.value(flights, origin, threads)
+            );
+            FlightsTest.joined(flights, 2);
+            landed.countDown();
+            Assertions.assertEquals("value", lead.join());
+            for (final CompletableFuture<String> join : joined) {
+                Assertions.assertEquals("value", join.join());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        Assertions.assertEquals(1, computed.get());
+        Assertions.assertEquals(1, flights.leads());
+        Assertions.assertEquals(2, flights.joins());
+    }
+
+    @Test
+    void computesAgainAfterFlightLanded() throws EntryException {
+        final Flights flights = new Flights();
+        final AtomicInteger computed = new AtomicInteger();
+        flights.value("key", computed::incrementAndGet);
+        flights.value("key", computed::incrementAndGet);
+        Assertions.assertEquals(2, computed.get());
+        Assertions.assertEquals(2, flights.leads());
+        Assertions.assertEquals(0, flights.joins());
+    }
+
+    @Test
+    void failsJoinedCallersWithFailedFlight() throws InterruptedException {
+        final Flights flights = new Flights();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch landed = new CountDownLatch(1);
+        final Entry<String> origin = () -> {
+            started.countDown();
+            FlightsTest.await(landed);
+            throw new EntryException("Failed to fetch");
+        };
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<String> lead = FlightsTest.value(flights, origin, threads);
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final CompletableFuture<String> joined = FlightsTest.value(flights, origin, threads);
+            FlightsTest.joined(flights, 1);
+            landed.countDown();
+            Assertions.assertThrows(CompletionException.class, lead::join);
+            Assertions.assertThrows(CompletionException.class, joined::join);
+        } finally {
+            threads.shutdownNow();
+        }
+        Assertions.assertEquals(1, flights.leads());
+    }
+
+    private static CompletableFuture<String> value(
+        final Flights flights,
+        final Entry<String> origin,
+        final ExecutorService threads
+    ) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return flights.value("key", origin);
+                } catch (final EntryException exception) {
+                    throw new EntryExceptionUnchecked(exception);
+                }
+            },
+            threads
+        );
+    }
+
+    private static void joined(final Flights flights, final long count) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.joins() < count && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        Assertions.assertEquals(count, flights.joins());
+    }
+
+    private static void await(final CountDownLatch latch) throws EntryException {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new EntryException("Flight is not landed in time");
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new EntryException("Interrupted in flight", exception);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import io.github.artemget.entrys.EntryException;
+import java.io.StringReader;
+import java.util.List;
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Projection}.
+ *
+ * @since 0.1.0
+ */
+final class ProjectionTest {
+    @Test
+    void readsDeclaredFieldsSkippingOthers() throws EntryException {
+        final JsonParser parser = Json.createParser(
+            new StringReader(
+                """
+                    {"name":"v1.0","message":"skip","commit":{"author":{"name":"me"},
+                    "parents":[["a"],{"b":1}],"id":"abc","created_at":null},"id":7}
+                    """
+            )
+        );
+        parser.next();
+        Assertions.assertEquals(
+            List.of("v1.0", "abc", "7"),
+            new Projection<List<String>>(
+                values -> List.of(values.get(0), values.get(1), values.get(2)),
+                "name", "commit.id", "id"
+            ).projected(parser)
+        );
+    }
+
+    @Test
+    void keepsNullFieldValue() throws EntryException {
+        final JsonParser parser = Json.createParser(
+            new StringReader("{\"commit\":{\"created_at\":null}}")
+        );
+        parser.next();
+        Assertions.assertNull(
+            new Projection<>(values -> values.get(0), "commit.created_at").projected(parser)
+        );
+    }
+
+    @Test
+    void readsDeclaredArrayAsSeparatedValues() throws EntryException {
+        final JsonParser parser = Json.createParser(
+            new StringReader("{\"parent_ids\":[\"a\",{\"b\":1},\"c\"],\"id\":\"d\"}")
+        );
+        parser.next();
+        Assertions.assertEquals(
+            List.of("a c", "d"),
+            new Projection<List<String>>(
+                values -> List.of(values.get(0), values.get(1)),
+                "parent_ids", "id"
+            ).projected(parser)
+        );
+    }
+
+    @Test
+    void throwsAtAbsentField() {
+        final JsonParser parser = Json.createParser(new StringReader("{\"name\":\"v1.0\"}"));
+        parser.next();
+        Assertions.assertThrows(
+            EntryException.class,
+            () -> new Projection<>(values -> values.get(0), "commit.id").projected(parser)
+        );
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Tar}.
+ *
+ * @since 0.1.0
+ */
+final class TarTest {
+    @Test
+    void readsNameWithUstarPrefix() throws IOException {
+        final Tar tar = new Tar(
+            TarTest.stream(TarTest.entry("values.yaml", "root/svc", '0', "tag: 1"))
+        );
+        Assertions.assertEquals(
+            new Tar.Header("root/svc/values.yaml", false, 6),
+            tar.next().orElseThrow()
+        );
+        Assertions.assertEquals("tag: 1", new String(tar.content(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(Optional.empty(), tar.next());
+    }
+
+    @Test
+    void readsNameOfPaxHeader() throws IOException {
+        final Tar tar = new Tar(
+            TarTest.stream(
+                TarTest.entry("PaxHeader", "", 'x', "30 mtime=1700000000.000000000\n30 path=root/long/values.yaml\n"),
+                TarTest.entry("values.yaml", "", '0', "tag: 1")
+            )
+        );
+        Assertions.assertEquals("root/long/values.yaml", tar.next().orElseThrow().name());
+    }
+
+    @Test
+    void readsGnuLongName() throws IOException {
+        final Tar tar = new Tar(
+            TarTest.stream(
+                TarTest.entry("././@LongLink", "", 'L', "root/long/values.yaml\0"),
+                TarTest.entry("values.yaml", "", '0', "tag: 1"),
+                TarTest.entry("root/next/", "", '5', "")
+            )
+        );
+        Assertions.assertEquals("root/long/values.yaml", tar.next().orElseThrow().name());
+        Assertions.assertEquals(
+            new Tar.Header("root/next/", true, 0),
+            tar.next().orElseThrow()
+        );
+    }
+
+    @Test
+    void skipsNotReadContent() throws IOException {
+        final Tar tar = new Tar(
+            TarTest.stream(
+                TarTest.entry("root/big", "", '0', "x".repeat(1500)),
+                TarTest.entry("root/values.yaml", "", '0', "tag: 1")
+            )
+        );
+        tar.next();
+        Assertions.assertEquals("root/values.yaml", tar.next().orElseThrow().name());
+        Assertions.assertEquals("tag: 1", new String(tar.content(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void failsOnTruncatedContent() throws IOException {
+        final byte[] archive = TarTest.archive(TarTest.entry("root/big", "", '0', "x".repeat(1500)));
+        final Tar tar = new Tar(new ByteArrayInputStream(Arrays.copyOf(archive, 1024)));
+        tar.next();
+        Assertions.assertThrows(EOFException.class, tar::content);
+    }
+
+    @Test
+    void failsOnTruncatedSkip() throws IOException {
+        final byte[] archive = TarTest.archive(TarTest.entry("root/big", "", '0', "x".repeat(1500)));
+        final Tar tar = new Tar(new ByteArrayInputStream(Arrays.copyOf(archive, 1024)));
+        tar.next();
+        Assertions.assertThrows(EOFException.class, tar::next);
+    }
+
+    private static InputStream stream(final byte[]... entries) {
+        return new ByteArrayInputStream(TarTest.archive(entries));
+    }
+
+    /**
+     * Archive of entries, ended by two zero blocks.
+     *
+     * @param entries Headers with content
+     * @return Archive bytes
+     */
+    private static byte[] archive(final byte[]... entries) {
+        final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        for (final byte[] entry : entries) {
+            archive.writeBytes(entry);
+        }
+        archive.writeBytes(new byte[1024]);
+        return archive.toByteArray();
+    }
+
+    /**
+     * Ustar header with content, padded to blocks.
+     *
+     * @param name Of entry
+     * @param prefix Of name
+     * @param type Of entry
+     * @param content Of entry
+     * @return Entry bytes
+     */
+    private static byte[] entry(
+        final String name,
+        final String prefix,
+        final char type,
+        final String content
+    ) {
+        final byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        final byte[] entry = new byte[512 + (data.length + 511) / 512 * 512];
+        TarTest.put(entry, 0, name);
+        TarTest.put(entry, 124, String.format("%011o", data.length));
+        entry[156] = (byte) type;
+        TarTest.put(entry, 257, "ustar");
+        TarTest.put(entry, 263, "00");
+        TarTest.put(entry, 345, prefix);
+        System.arraycopy(data, 0, entry, 512, data.length);
+        return entry;
+    }
+
+    private static void put(final byte[] block, final int off, final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(bytes, 0, block, off, bytes.length);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link Bucket}.
+ *
+ * @since 0.1.0
+ */
+final class BucketTest {
+    @Test
+    void passesBurstWithoutWaiting() throws InterruptedException {
+        final Bucket bucket = new Bucket(3, 1);
+        for (int idx = 0; idx < 3; ++idx) {
+            Assertions.assertTrue(bucket.acquire().compareTo(Duration.ofMillis(50)) < 0);
+        }
+        Assertions.assertEquals(3, bucket.acquired());
+    }
+
+    @Test
+    void waitsForRefillOfToken() throws InterruptedException {
+        final Bucket bucket = new Bucket(1, 20);
+        bucket.acquire();
+        final Duration waited = bucket.acquire();
+        Assertions.assertTrue(waited.compareTo(Duration.ofMillis(40)) >= 0, waited.toString());
+        Assertions.assertTrue(waited.compareTo(Duration.ofSeconds(1)) < 0, waited.toString());
+        Assertions.assertEquals(2, bucket.acquired());
+    }
+
+    @Test
+    void waitsForRefillOfTokenAsync() {
+        final Bucket bucket = new Bucket(1, 20);
+        bucket.acquireAsync().join();
+        final Duration waited = bucket.acquireAsync().join();
+        Assertions.assertTrue(waited.compareTo(Duration.ofMillis(40)) >= 0, waited.toString());
+        Assertions.assertTrue(waited.compareTo(Duration.ofSeconds(1)) < 0, waited.toString());
+        Assertions.assertEquals(0, bucket.queued());
+    }
+
+    @Test
+    void waitsResetWhenProviderHasNoRequestsLeft() throws InterruptedException {
+        final Bucket bucket = new Bucket(5, 1000);
+        bucket.remaining(0, Duration.ofMillis(100));
+        final Duration waited = bucket.acquire();
+        Assertions.assertTrue(waited.compareTo(Duration.ofMillis(80)) >= 0, waited.toString());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Fake response of scm provider.
+ *
+ * @since 0.1.0
+ */
+public final class FkResponse implements HttpResponse<InputStream> {
+    /**
+     * Request.
+     */
+    private final HttpRequest request;
+
+    /**
+     * Status.
+     */
+    private final int status;
+
+    /**
+     * Headers.
+     */
+    private final Map<String, List<String>> headers;
+
+    /**
+     * Body.
+     */
+    private final InputStream body;
+
+    /**
+     * Ctor.
+     *
+     * @param request Request
+     * @param status Status
+     */
+    public FkResponse(final HttpRequest request, final int status) {
+        this(request, status, Map.of(), "");
+    }
+
+    /**
+     * Main ctor.
+     *
+     * @param request Request
+     * @param status Status
+     * @param headers Headers
+     * @param body Body
+     */
+    public FkResponse(
+        final HttpRequest request,
+        final int status,
+        final Map<String, List<String>> headers,
+        final String body
+    ) {
+        this.request = request;
+        this.status = status;
+        this.headers = headers;
+        this.body = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int statusCode() {
+        return this.status;
+    }
+
+    @Override
+    public HttpRequest request() {
+        return this.request;
+    }
+
+    @Override
+    public Optional<HttpResponse<InputStream>> previousResponse() {
+        return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return HttpHeaders.of(this.headers, (name, value) -> true);
+    }
+
+    @Override
+    public InputStream body() {
+        return this.body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.empty();
+    }
+
+    @Override
+    public URI uri() {
+        return this.request.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link HttpBreaker}.
+ *
+ * @since 0.1.0
+ */
+final class HttpBreakerTest {
+    @Test
+    void failsFastAfterSeriesOfFailures() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        final Http http = new HttpBreaker(
+            request -> {
+                sent.incrementAndGet();
+                return new FkResponse(request, 500);
+            },
+            2,
+            Duration.ofMinutes(1)
+        );
+        http.send(HttpBreakerTest.get());
+        http.send(HttpBreakerTest.get());
+        Assertions.assertThrows(IOException.class, () -> http.send(HttpBreakerTest.get()));
+        Assertions.assertEquals(2, sent.get());
+    }
+
+    @Test
+    void closesAfterSuccessfulProbe() throws IOException {
+        final AtomicInteger status = new AtomicInteger(503);
+        final Http http = new HttpBreaker(
+            request -> new FkResponse(request, status.get()),
+            1,
+            Duration.ofMillis(10)
+        );
+        http.send(HttpBreakerTest.get());
+        Assertions.assertThrows(IOException.class, () -> http.send(HttpBreakerTest.get()));
+        LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+        status.set(200);
+        Assertions.assertEquals(200, http.send(HttpBreakerTest.get()).statusCode());
+        Assertions.assertEquals(200, http.send(HttpBreakerTest.get()).statusCode());
+    }
+
+    @Test
+    void releasesProbeFailedWithRuntimeException() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        final Http http = new HttpBreaker(
+            request -> {
+                final int attempt = sent.incrementAndGet();
+                if (attempt == 2) {
+                    throw new IllegalStateException("transport is broken");
+                }
+                final FkResponse response;
+                if (attempt == 1) {
+                    response = new FkResponse(request, 500);
+                } else {
+                    response = new FkResponse(request, 200);
+                }
+                return response;
+            },
+            1,
+            Duration.ofMillis(10)
+        );
+        http.send(HttpBreakerTest.get());
+        LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+        Assertions.assertThrows(IllegalStateException.class, () -> http.send(HttpBreakerTest.get()));
+        LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+        Assertions.assertEquals(200, http.send(HttpBreakerTest.get()).statusCode());
+    }
+
+    @Test
+    void failsFastAsyncAfterSeriesOfFailures() {
+        final AtomicInteger sent = new AtomicInteger();
+        final Http http = new HttpBreaker(
+            request -> {
+                sent.incrementAndGet();
+                throw new IOException("connection refused");
+            },
+            1,
+            Duration.ofMinutes(1)
+        );
+        Assertions.assertThrows(
+            CompletionException.class,
+            () -> http.sendAsync(HttpBreakerTest.get()).join()
+        );
+        final CompletionException error = Assertions.assertThrows(
+            CompletionException.class,
+            () -> http.sendAsync(HttpBreakerTest.get()).join()
+        );
+        Assertions.assertTrue(error.getCause() instanceof IOException, error.toString());
+        Assertions.assertEquals(1, sent.get());
+    }
+
+    private static HttpRequest get() {
+        return HttpRequest.newBuilder(URI.create("https://gitlab.local/api/v4/projects")).GET().build();
+    }
+}
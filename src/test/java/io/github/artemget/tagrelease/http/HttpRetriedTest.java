@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link HttpRetried}.
+ *
+ * @since 0.1.0
+ */
+final class HttpRetriedTest {
+    @Test
+    void retriesPostMarkedAsRead() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            200,
+            new HttpRetried(
+                request -> {
+                    final int status;
+                    if (sent.incrementAndGet() < 3) {
+                        status = 503;
+                    } else {
+                        status = 200;
+                    }
+                    return new FkResponse(request, status);
+                },
+                3,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).send(new ReadRequest(HttpRetriedTest.post())).statusCode()
+        );
+        Assertions.assertEquals(3, sent.get());
+    }
+
+    @Test
+    void sendsNotMarkedPostOnce() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            503,
+            new HttpRetried(
+                request -> {
+                    sent.incrementAndGet();
+                    return new FkResponse(request, 503);
+                },
+                3,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).send(HttpRetriedTest.post()).statusCode()
+        );
+        Assertions.assertEquals(1, sent.get());
+    }
+
+    @Test
+    void retriesOnlyTransientStatuses() throws IOException {
+        final List<Integer> statuses = new ArrayList<>(List.of(502, 503, 504, 500));
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            500,
+            new HttpRetried(
+                request -> new FkResponse(request, statuses.get(sent.getAndIncrement())),
+                10,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).send(HttpRetriedTest.get()).statusCode()
+        );
+        Assertions.assertEquals(4, sent.get());
+    }
+
+    @Test
+    void returnsLastResponseAfterAttempts() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            503,
+            new HttpRetried(
+                request -> {
+                    sent.incrementAndGet();
+                    return new FkResponse(request, 503);
+                },
+                3,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).send(HttpRetriedTest.get()).statusCode()
+        );
+        Assertions.assertEquals(3, sent.get());
+    }
+
+    @Test
+    void retriesIoErrorOfRead() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            200,
+            new HttpRetried(
+                request -> {
+                    if (sent.incrementAndGet() == 1) {
+                        throw new IOException("connection reset");
+                    }
+                    return new FkResponse(request, 200);
+                },
+                2,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).send(HttpRetriedTest.get()).statusCode()
+        );
+    }
+
+    @Test
+    void sendsNotReadOnceAtIoError() {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new HttpRetried(
+                request -> {
+                    sent.incrementAndGet();
+                    throw new IOException("connection reset");
+                },
+                3,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).send(HttpRetriedTest.post())
+        );
+        Assertions.assertEquals(1, sent.get());
+    }
+
+    @Test
+    void waitsNotLongerThanMaxBackoff() throws IOException {
+        final long start = System.nanoTime();
+        new HttpRetried(
+            request -> new FkResponse(request, 503),
+            5,
+            Duration.ofSeconds(10),
+            Duration.ofMillis(20)
+        ).send(HttpRetriedTest.get());
+        Assertions.assertTrue(
+            System.nanoTime() - start < Duration.ofSeconds(1).toNanos(),
+            "Backoff exceeds max"
+        );
+    }
+
+    @Test
+    void spreadsBackoffByJitter() throws IOException {
+        final List<Long> gaps = new ArrayList<>();
+        for (int sample = 0; sample < 20; ++sample) {
+            final long[] sent = new long[2];
+            final AtomicInteger attempt = new AtomicInteger();
+            new HttpRetried(
+                request -> {
+                    sent[attempt.getAndIncrement()] = System.nanoTime();
+                    return new FkResponse(request, 503);
+                },
+                2,
+                Duration.ofMillis(20),
+                Duration.ofMillis(20)
+            ).send(HttpRetriedTest.get());
+            gaps.add(sent[1] - sent[0]);
+        }
+        Assertions.assertTrue(
+            gaps.stream().distinct().count() > 1
+                && gaps.stream().anyMatch(gap -> gap < Duration.ofMillis(15).toNanos()),
+            gaps.toString()
+        );
+    }
+
+    @Test
+    void retriesAsyncTransientStatus() {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            200,
+            new HttpRetried(
+                request -> {
+                    final int status;
+                    if (sent.incrementAndGet() == 1) {
+                        status = 502;
+                    } else {
+                        status = 200;
+                    }
+                    return new FkResponse(request, status);
+                },
+                2,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1)
+            ).sendAsync(HttpRetriedTest.get()).join().statusCode()
+        );
+    }
+
+    private static HttpRequest get() {
+        return HttpRequest.newBuilder(URI.create("https://gitlab.local/api/v4/projects")).GET().build();
+    }
+
+    private static HttpRequest post() {
+        return HttpRequest.newBuilder(URI.create("https://gitlab.local/api/graphql"))
+            .POST(HttpRequest.BodyPublishers.ofString("{}"))
+            .build();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024-2025. Artem Getmanskii
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.artemget.tagrelease.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case {@link HttpThrottled}.
+ *
+ * @since 0.1.0
+ */
+final class HttpThrottledTest {
+    @Test
+    void resendsTooManyRequests() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            200,
+            new HttpThrottled(
+                HttpThrottledTest.limited(sent, 2),
+                new Bucket(10, 100),
+                new Bucket(10, 100)
+            ).send(HttpThrottledTest.get()).statusCode()
+        );
+        Assertions.assertEquals(3, sent.get());
+    }
+
+    @Test
+    void resendsTooManyRequestsAsync() {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            200,
+            new HttpThrottled(
+                HttpThrottledTest.limited(sent, 2),
+                new Bucket(10, 100),
+                new Bucket(10, 100)
+            ).sendAsync(HttpThrottledTest.get()).join().statusCode()
+        );
+        Assertions.assertEquals(3, sent.get());
+    }
+
+    @Test
+    void returnsTooManyRequestsAfterAllAttempts() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        Assertions.assertEquals(
+            429,
+            new HttpThrottled(
+                HttpThrottledTest.limited(sent, 10),
+                new Bucket(10, 100),
+                new Bucket(10, 100)
+            ).send(HttpThrottledTest.get()).statusCode()
+        );
+        Assertions.assertEquals(5, sent.get());
+    }
+
+    @Test
+    void takesTokensOfReadsAndWritesSeparately() throws IOException {
+        final Bucket reads = new Bucket(10, 100);
+        final Bucket writes = new Bucket(10, 100);
+        final Http http = new HttpThrottled(request -> new FkResponse(request, 200), reads, writes);
+        http.send(HttpThrottledTest.get());
+        http.send(new ReadRequest(HttpThrottledTest.post()));
+        http.send(HttpThrottledTest.post());
+        Assertions.assertEquals(2, reads.acquired());
+        Assertions.assertEquals(1, writes.acquired());
+    }
+
+    /**
+     * Transport answering too many requests first.
+     *
+     * @param sent Count of sent requests
+     * @param limited Count of too many requests responses
+     * @return Transport
+     */
+    private static Http limited(final AtomicInteger sent, final int limited) {
+        return request -> {
+            final FkResponse response;
+            if (sent.incrementAndGet() <= limited) {
+                response = new FkResponse(request, 429, Map.of("Retry-After", List.of("0")), "");
+            } else {
+                response = new FkResponse(request, 200);
+            }
+            return response;
+        };
+    }
+
+    private static HttpRequest get() {
+        return HttpRequest.newBuilder(URI.create("https://gitlab.local/api/v4/projects")).GET().build();
+    }
+
+    private static HttpRequest post() {
+        return HttpRequest.newBuilder(URI.create("https://gitlab.local/api/graphql"))
+            .POST(HttpRequest.BodyPublishers.ofString("{}"))
+            .build();
+    }
+}